@@ -0,0 +1,108 @@
+package com.tutorial.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the IPC thread does with hand tracker data: {@link PythonHandTracker#decode} over a
+ * read buffer holding a burst of messages, in the JSON lines older servers send and in the
+ * binary frames of the current protocol. Decoding includes publishing each frame as a
+ * snapshot. The hand is not pinching, so no stroke is recorded. Lives in the tracker's
+ * package to reach the decoder without a server. Times are per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PythonHandTrackerBenchmark {
+    private static final int MESSAGES = 32; // About 40 KB of JSON, so one IPC read buffer holds it
+    private static final long SEED = 7;
+    private static final int LANDMARKS = PythonHandTracker.HandData.LANDMARK_COUNT;
+    private static final int POINT_GESTURE = 2;
+
+    @Param({"json", "binary"})
+    public String protocol;
+
+    private PythonHandTracker tracker;
+    private ByteBuffer stream;
+    private int streamLength;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean binary = "binary".equals(protocol);
+        tracker = new PythonHandTracker();
+        tracker.skipHandshake(binary);
+
+        // A hand wandering over a 640x480 camera frame, in pixels like the server sends
+        Random random = new Random(SEED);
+        stream = ByteBuffer.allocateDirect(64 * 1024); // Same kind of buffer IpcEventLoop reads into
+        for (int m = 0; m < MESSAGES; m++) {
+            float[] x = new float[LANDMARKS];
+            float[] y = new float[LANDMARKS];
+            float wristX = 200 + random.nextFloat() * 240;
+            float wristY = 200 + random.nextFloat() * 160;
+            for (int i = 0; i < LANDMARKS; i++) {
+                x[i] = wristX + (random.nextFloat() - 0.5f) * 120;
+                y[i] = wristY - random.nextFloat() * 160;
+            }
+            if (binary) {
+                writeBinary(x, y);
+            } else {
+                stream.put(jsonLine(x, y).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        streamLength = stream.position();
+    }
+
+    // hand_tracker_server.py's json.dumps(hand_data) layout
+    private static String jsonLine(float[] x, float[] y) {
+        StringBuilder line = new StringBuilder(1024);
+        line.append("{\"landmarks\": [");
+        for (int i = 0; i < LANDMARKS; i++) {
+            if (i > 0) line.append(", ");
+            line.append("{\"x\": ").append((double) x[i]).append(", \"y\": ").append((double) y[i]).append('}');
+        }
+        line.append("], \"gesture\": \"").append(PythonHandTracker.GESTURES[POINT_GESTURE]).append('"');
+        line.append(", \"index_tip\": {\"x\": ").append((double) x[8]).append(", \"y\": ").append((double) y[8]).append('}');
+        line.append(", \"pinch\": false}\n");
+        return line.toString();
+    }
+
+    // hand_tracker_server.py's BINARY_FRAME: ">HBBBBH2f" + 21 * "2f"
+    private void writeBinary(float[] x, float[] y) {
+        stream.putShort((short) 0x4844);
+        stream.put((byte) 1);
+        stream.put((byte) 2); // Index tip present
+        stream.put((byte) POINT_GESTURE);
+        stream.put((byte) LANDMARKS);
+        stream.putShort((short) 0);
+        stream.putFloat(x[8]);
+        stream.putFloat(y[8]);
+        for (int i = 0; i < LANDMARKS; i++) {
+            stream.putFloat(x[i]);
+            stream.putFloat(y[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int decode() throws IOException {
+        stream.limit(streamLength);
+        stream.position(0);
+        tracker.decode(stream);
+        return tracker.getHandSnapshot().landmarkCount;
+    }
+}
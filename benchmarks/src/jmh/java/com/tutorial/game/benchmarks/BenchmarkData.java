@@ -0,0 +1,102 @@
+package com.tutorial.game.benchmarks;
+
+import com.tutorial.game.gameComponenets.controllers.CameraService;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfByte;
+import org.opencv.imgcodecs.Imgcodecs;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Loads the bundled sample frames, the face cascade and core's labeled strokes from the benchmark classpath. */
+final class BenchmarkData {
+    static final String FRAME_PATTERN = "frames/frame_%02d.jpg";
+    static final String CASCADE = "haarcascade_frontalface_alt.xml";
+    static final String STROKES = "spells/labeled_strokes.txt";
+
+    private BenchmarkData() {
+    }
+
+    /** Every bundled frame, in order, as BGR Mats like the camera delivers. */
+    static List<Mat> loadFrames() throws IOException {
+        CameraService.loadNativeLibrary();
+        List<Mat> frames = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            byte[] bytes = readResource(String.format(FRAME_PATTERN, i));
+            if (bytes == null) break;
+            MatOfByte encoded = new MatOfByte(bytes);
+            frames.add(Imgcodecs.imdecode(encoded, Imgcodecs.IMREAD_COLOR));
+            encoded.release();
+        }
+        if (frames.isEmpty()) {
+            throw new IOException("No sample frames on the classpath; run benchmarks:generateSampleFrames");
+        }
+        return frames;
+    }
+
+    /** OpenCV only loads cascades from files, so copy it out of the jar. */
+    static String cascadeFile() throws IOException {
+        byte[] bytes = readResource(CASCADE);
+        if (bytes == null) throw new IOException(CASCADE + " is not on the classpath");
+        File file = File.createTempFile("cascade", ".xml");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(bytes);
+        }
+        return file.getAbsolutePath();
+    }
+
+    /**
+     * Fingertip paths from core's labeled stroke set, as {x0, y0, x1, y1, ...} per stroke;
+     * labels are dropped. See SampleStrokes in core's tests for the format.
+     */
+    static List<float[]> loadStrokes() throws IOException {
+        InputStream in = BenchmarkData.class.getClassLoader().getResourceAsStream(STROKES);
+        if (in == null) throw new IOException(STROKES + " is not on the classpath; run core:generateSampleStrokes");
+
+        List<float[]> strokes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] fields = line.split(" ");
+                float[] points = new float[(fields.length - 1) * 2];
+                for (int i = 1; i < fields.length; i++) {
+                    int comma = fields[i].indexOf(',');
+                    points[(i - 1) * 2] = Float.parseFloat(fields[i].substring(0, comma));
+                    points[(i - 1) * 2 + 1] = Float.parseFloat(fields[i].substring(comma + 1));
+                }
+                strokes.add(points);
+            }
+        }
+        return strokes;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = BenchmarkData.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) return null;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[16 * 1024];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    static void release(List<Mat> frames) {
+        for (Mat frame : frames) {
+            frame.release();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.tutorial.game.benchmarks;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.tutorial.game.gameComponenets.utils.CameraTexture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opencv.core.Core;
+import org.opencv.core.Mat;
+import org.opencv.imgproc.Imgproc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU side of getting a camera frame on screen: {@link CameraTexture#convert}, which
+ * writes the RGB conversion straight into the pixmap's native buffer. The GL upload needs a
+ * context and is left out. heapCopy is the usual alternative for comparison: convert into
+ * an OpenCV Mat, pull it onto the Java heap and copy it into the pixmap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CameraTextureBenchmark {
+    @Param({"true", "false"})
+    public boolean mirror;
+
+    private List<Mat> frames;
+    private Mat frame;
+    private CameraTexture cameraTexture;
+
+    // heapCopy scratch
+    private Mat flipped;
+    private Mat rgb;
+    private byte[] bytes;
+    private Pixmap heapPixmap;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GdxNativesLoader.load(); // Pixmap is native memory
+        frames = BenchmarkData.loadFrames(); // Loads OpenCV, so Mats only from here on
+        frame = frames.get(0);
+        flipped = new Mat();
+        rgb = new Mat();
+        cameraTexture = new CameraTexture();
+        bytes = new byte[frame.cols() * frame.rows() * 3];
+        heapPixmap = new Pixmap(frame.cols(), frame.rows(), Pixmap.Format.RGB888);
+    }
+
+    @Benchmark
+    public Pixmap convert() {
+        cameraTexture.convert(frame, mirror);
+        return cameraTexture.getPixmap();
+    }
+
+    @Benchmark
+    public Pixmap heapCopy() {
+        Mat source = frame;
+        if (mirror) {
+            Core.flip(frame, flipped, 1);
+            source = flipped;
+        }
+        Imgproc.cvtColor(source, rgb, Imgproc.COLOR_BGR2RGB);
+        rgb.get(0, 0, bytes);
+        ByteBuffer pixels = heapPixmap.getPixels();
+        pixels.clear();
+        pixels.put(bytes);
+        pixels.clear();
+        return heapPixmap;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cameraTexture.dispose();
+        heapPixmap.dispose();
+        flipped.release();
+        rgb.release();
+        BenchmarkData.release(frames);
+    }
+}
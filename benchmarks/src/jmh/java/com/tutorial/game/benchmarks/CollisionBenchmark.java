@@ -0,0 +1,161 @@
+package com.tutorial.game.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import com.tutorial.game.gameComponenets.gameObjects.Direction;
+import com.tutorial.game.gameComponenets.gameObjects.EnemyAttack;
+import com.tutorial.game.gameComponenets.gameObjects.GameWorld;
+import com.tutorial.game.gameComponenets.gameObjects.ProjectileSystem;
+import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.SpatialHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A tick's collision work as GameWorld does it, with everything spread over the arena:
+ * enemies, scrolls and armed fire swirls, then the player box against the swirls and the
+ * scrolls, and each ice orb against the enemies. There is one enemy per 16 swirls, so the
+ * smallest case is a real game's four. grid rebuilds the spatial hash and queries it;
+ * linear answers the same queries by scanning every entity. Both collect every overlap,
+ * and setup checks that they find the same ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+    private static final long SEED = 42;
+    private static final int ORBS = 8;
+    private static final int SCROLLS = 2; // GameWorld.MAX_SCROLLS
+    private static final float PLAYER_SIZE = 2.4f;
+    private static final float ORB_SIZE = 2;
+    private static final float ENEMY_SIZE = 2.6f;
+    private static final float SCROLL_SIZE = 2;
+
+    @Param({"64", "1024", "16384"})
+    public int projectiles;
+
+    private ProjectileSystem projectileSystem;
+    private final SpatialHash grid = new SpatialHash(0, 0, 30, 30, 2); // GameWorld's grid
+    private final IntArray hits = new IntArray();
+    private float[] enemyX;
+    private float[] enemyY;
+    private final float[] scrollX = new float[SCROLLS];
+    private final float[] scrollY = new float[SCROLLS];
+    private final float[] orbX = new float[ORBS];
+    private final float[] orbY = new float[ORBS];
+    private float playerX;
+    private float playerY;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomXS128 random = new RandomXS128(SEED);
+        projectileSystem = new ProjectileSystem(projectiles);
+        for (int i = 0; i < projectiles; i += 4) {
+            EnemyAttack.spawn(projectileSystem, 3 + random.nextFloat() * 24, 3 + random.nextFloat() * 24,
+                Direction.VALUES[random.nextInt(4)]);
+        }
+        // Arm everything, or no swirl takes part in collisions. 1 / STEP is a hair under 60 in
+        // float and the countdown a hair over zero after 60 steps, hence the extra step
+        for (int s = 0; s <= Math.ceil(EnemyAttack.HARMLESS_TIME / GameScreen.STEP) + 1; s++) {
+            projectileSystem.update(GameScreen.STEP);
+        }
+
+        int enemies = Math.max(4, projectiles / 16);
+        enemyX = new float[enemies];
+        enemyY = new float[enemies];
+        for (int e = 0; e < enemies; e++) {
+            enemyX[e] = 2 + random.nextFloat() * 26;
+            enemyY[e] = 2 + random.nextFloat() * 26;
+        }
+        for (int s = 0; s < SCROLLS; s++) {
+            scrollX[s] = 6 + random.nextFloat() * 18;
+            scrollY[s] = 6 + random.nextFloat() * 18;
+        }
+        for (int o = 0; o < ORBS; o++) {
+            orbX[o] = 6 + random.nextFloat() * 18;
+            orbY[o] = 6 + random.nextFloat() * 18;
+        }
+        playerX = 6 + random.nextFloat() * 18;
+        playerY = 6 + random.nextFloat() * 18;
+
+        if (grid() != linear()) {
+            throw new IllegalStateException("Grid and linear scan disagree");
+        }
+    }
+
+    @Benchmark
+    public long grid() {
+        grid.clear();
+        for (int e = 0; e < enemyX.length; e++) {
+            grid.insert(enemyX[e], enemyY[e], ENEMY_SIZE, ENEMY_SIZE, e, GameWorld.LAYER_ENEMY);
+        }
+        for (int s = 0; s < SCROLLS; s++) {
+            grid.insert(scrollX[s], scrollY[s], SCROLL_SIZE, SCROLL_SIZE, s, GameWorld.LAYER_SCROLL);
+        }
+        projectileSystem.insertInto(grid, GameWorld.LAYER_ENEMY_PROJECTILE);
+
+        long found = 0;
+        grid.query(playerX, playerY, PLAYER_SIZE, PLAYER_SIZE, GameWorld.LAYER_ENEMY_PROJECTILE, hits);
+        found = fold(found, hits);
+        grid.query(playerX, playerY, PLAYER_SIZE, PLAYER_SIZE, GameWorld.LAYER_SCROLL, hits);
+        found = fold(found, hits);
+        for (int o = 0; o < ORBS; o++) {
+            grid.query(orbX[o], orbY[o], ORB_SIZE, ORB_SIZE, GameWorld.LAYER_ENEMY, hits);
+            found = fold(found, hits);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long linear() {
+        long found = 0;
+        hits.clear();
+        for (int i = 0; i < projectileSystem.size(); i++) {
+            float s = projectileSystem.getSize(i);
+            if (overlaps(playerX, playerY, PLAYER_SIZE, projectileSystem.getX(i), projectileSystem.getY(i), s)) {
+                hits.add(i);
+            }
+        }
+        found = fold(found, hits);
+        hits.clear();
+        for (int s = 0; s < SCROLLS; s++) {
+            if (overlaps(playerX, playerY, PLAYER_SIZE, scrollX[s], scrollY[s], SCROLL_SIZE)) {
+                hits.add(s);
+            }
+        }
+        found = fold(found, hits);
+        for (int o = 0; o < ORBS; o++) {
+            hits.clear();
+            for (int e = 0; e < enemyX.length; e++) {
+                if (overlaps(orbX[o], orbY[o], ORB_SIZE, enemyX[e], enemyY[e], ENEMY_SIZE)) {
+                    hits.add(e);
+                }
+            }
+            found = fold(found, hits);
+        }
+        return found;
+    }
+
+    // Edges included, like SpatialHash
+    private static boolean overlaps(float x, float y, float size, float otherX, float otherY, float otherSize) {
+        return x <= otherX + otherSize && x + size >= otherX && y <= otherY + otherSize && y + size >= otherY;
+    }
+
+    // Order-independent, since the grid reports hits in cell order
+    private static long fold(long found, IntArray ids) {
+        long sum = 0;
+        for (int i = 0; i < ids.size; i++) {
+            sum += ids.get(i) * 0x9E3779B97F4A7C15L + 1;
+        }
+        return found * 31 + sum;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tutorial.game.benchmarks;
+
+import com.tutorial.game.gameComponenets.controllers.FaceTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opencv.core.Mat;
+import org.opencv.core.Rect;
+import org.opencv.core.Size;
+import org.opencv.objdetect.CascadeClassifier;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The head tracking thread's per-frame work on the sample frames, played in order and
+ * looped: {@link FaceTracker#prepare} then {@link FaceTracker#detect}, with the same
+ * cascade and settings as HeadMovementController. With tracking off every frame is a full
+ * scan; with it on, most frames only search around the last face.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FaceDetectionBenchmark {
+    @Param({"true", "false"})
+    public boolean tracking;
+
+    private List<Mat> frames;
+    private CascadeClassifier classifier;
+    private FaceTracker tracker;
+    private Mat small;
+    private Mat gray;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        frames = BenchmarkData.loadFrames(); // Loads OpenCV, so Mats only from here on
+        small = new Mat();
+        gray = new Mat();
+        classifier = new CascadeClassifier();
+        if (!classifier.load(BenchmarkData.cascadeFile())) {
+            throw new IllegalStateException("Could not load " + BenchmarkData.CASCADE);
+        }
+        // HeadMovementController's settings
+        tracker = new FaceTracker(classifier, 1.1, 2, new Size(50, 50), new Size(200, 200), 20);
+        tracker.setTrackingEnabled(tracking);
+    }
+
+    // Every iteration replays the clip from the start with a fresh tracker
+    @Setup(Level.Iteration)
+    public void rewind() {
+        next = 0;
+        tracker.reset();
+    }
+
+    @Benchmark
+    public Rect detect() {
+        Mat frame = frames.get(next);
+        next = (next + 1) % frames.size();
+        FaceTracker.prepare(frame, small, gray);
+        return tracker.detect(gray);
+    }
+
+    @Benchmark
+    public Mat prepareOnly() {
+        Mat frame = frames.get(next);
+        next = (next + 1) % frames.size();
+        FaceTracker.prepare(frame, small, gray);
+        return gray;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tracker.dispose();
+        small.release();
+        gray.release();
+        BenchmarkData.release(frames);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tutorial.game.benchmarks;
+
+import com.tutorial.game.gameComponenets.gameObjects.Direction;
+import com.tutorial.game.gameComponenets.gameObjects.GameWorld;
+import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole game ticks: enemies, their attack volleys, player attacks hitting enemies, and the
+ * collision grid, as GameScreen steps them. The player stands still and casts an ice orb
+ * every half second, cycling the four directions, so player attacks are always in flight.
+ * Seeded like the headless runner; a finished game is replaced by the next seed, so a
+ * small share of the time is spent setting up new worlds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameWorldBenchmark {
+    private static final long FIRST_SEED = 1;
+    private static final int CAST_EVERY_TICKS = 30;
+
+    private GameAssets assets;
+    private JobSystem jobs;
+    private GameWorld world;
+    private long seed;
+    private int casts;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        assets = new GameAssets(); // Not loaded: untextured sprites, no GL needed
+        jobs = new JobSystem(1);
+        seed = FIRST_SEED;
+        world = new GameWorld(assets, seed, jobs);
+        casts = 0;
+    }
+
+    @Benchmark
+    public long step() {
+        if (world.isGameOver()) {
+            world = new GameWorld(assets, ++seed, jobs);
+        }
+        if (world.getTicks() % CAST_EVERY_TICKS == 0) {
+            world.addPlayerAttack(Direction.VALUES[casts++ & 3]);
+        }
+        world.savePreviousPositions();
+        world.step(GameScreen.STEP);
+        return world.getTicks();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        jobs.dispose();
+    }
+}
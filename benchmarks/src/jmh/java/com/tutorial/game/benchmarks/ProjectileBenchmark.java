@@ -0,0 +1,69 @@
+package com.tutorial.game.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.tutorial.game.gameComponenets.gameObjects.Direction;
+import com.tutorial.game.gameComponenets.gameObjects.EnemyAttack;
+import com.tutorial.game.gameComponenets.gameObjects.ProjectileSystem;
+import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link ProjectileSystem} step over enemy fire swirls, spawned as {@link EnemyAttack}
+ * volleys from a fixed seed, far beyond what a real game reaches so the per-projectile
+ * cost shows. There are no bounds, so nothing is culled and the count stays put. The move
+ * pass is split across the job threads once there are enough swirls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectileBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"256", "4096", "65536"})
+    public int projectiles;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private JobSystem jobs;
+    private ProjectileSystem projectileSystem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jobs = new JobSystem(threads);
+        RandomXS128 random = new RandomXS128(SEED);
+
+        projectileSystem = new ProjectileSystem(projectiles);
+        for (int i = 0; i < projectiles; i += 4) {
+            EnemyAttack.spawn(projectileSystem, random.nextFloat() * 30, random.nextFloat() * 30,
+                Direction.VALUES[random.nextInt(4)]);
+        }
+        // Arm everything so every swirl moves: step past the harmless second. 1 / STEP is a hair
+        // under 60 in float and the countdown a hair over zero after 60 steps, hence the extra step
+        for (int s = 0; s <= Math.ceil(EnemyAttack.HARMLESS_TIME / GameScreen.STEP) + 1; s++) {
+            projectileSystem.update(GameScreen.STEP);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        return projectileSystem.update(GameScreen.STEP, jobs);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jobs.dispose();
+    }
+}
@@ -0,0 +1,103 @@
+package com.tutorial.game.benchmarks;
+
+import com.tutorial.game.gameComponenets.controllers.CameraService;
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfInt;
+import org.opencv.core.Point;
+import org.opencv.core.Scalar;
+import org.opencv.core.Size;
+import org.opencv.imgcodecs.Imgcodecs;
+import org.opencv.imgproc.Imgproc;
+
+import java.io.File;
+
+/**
+ * Draws the sample frames bundled with the benchmarks: a 640x480 webcam-like view of a
+ * head drifting across a room, then the same room empty. The drawn face is simple but
+ * the game's Haar cascade finds it, so detection takes the same paths (tracking window
+ * hits, full scans, misses) as on a real camera. Sensor noise comes from a fixed seed,
+ * so the frames are identical on every run.
+ * Usage: SampleFrames outputDir
+ */
+public class SampleFrames {
+    static final int WIDTH = 640;
+    static final int HEIGHT = 480;
+    static final int FACE_FRAMES = 10;
+    static final int EMPTY_FRAMES = 2;
+    private static final int JPEG_QUALITY = 90;
+    private static final int NOISE_SEED = 1234;
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: SampleFrames outputDir");
+            System.exit(2);
+        }
+        CameraService.loadNativeLibrary();
+        Core.setRNGSeed(NOISE_SEED);
+
+        File dir = new File(args[0]);
+        dir.mkdirs();
+        MatOfInt params = new MatOfInt(Imgcodecs.IMWRITE_JPEG_QUALITY, JPEG_QUALITY);
+        for (int i = 0; i < FACE_FRAMES + EMPTY_FRAMES; i++) {
+            Mat frame = room();
+            if (i < FACE_FRAMES) {
+                // Drift right and a little up and down, leaning in slightly
+                double t = i / (double) (FACE_FRAMES - 1);
+                drawPerson(frame, 230 + 180 * t, 220 + 15 * Math.sin(t * Math.PI * 2), 105 + 10 * t);
+            }
+            addNoise(frame);
+            File file = new File(dir, String.format("frame_%02d.jpg", i));
+            Imgcodecs.imwrite(file.getPath(), frame, params);
+            frame.release();
+            System.out.println("✅ " + file.getPath());
+        }
+        params.release();
+    }
+
+    // A wall, a door and a shelf, so the detector has more than a flat background to reject
+    private static Mat room() {
+        Mat frame = new Mat(HEIGHT, WIDTH, CvType.CV_8UC3, new Scalar(150, 160, 170));
+        Imgproc.rectangle(frame, new Point(0, 360), new Point(WIDTH, HEIGHT), new Scalar(70, 90, 110), -1);
+        Imgproc.rectangle(frame, new Point(40, 60), new Point(170, 360), new Scalar(60, 80, 120), -1);
+        Imgproc.circle(frame, new Point(150, 220), 6, new Scalar(40, 170, 200), -1);
+        Imgproc.rectangle(frame, new Point(480, 90), new Point(620, 100), new Scalar(50, 60, 80), -1);
+        for (int b = 0; b < 6; b++) {
+            Imgproc.rectangle(frame, new Point(490 + b * 20, 50), new Point(505 + b * 20, 90),
+                new Scalar(40 + b * 30, 120, 200 - b * 25), -1);
+        }
+        return frame;
+    }
+
+    private static void drawPerson(Mat m, double cx, double cy, double r) {
+        // Shoulders and neck
+        Imgproc.ellipse(m, new Point(cx, cy + r * 2.2), new Size(r * 2.2, r), 0, 0, 360, new Scalar(60, 50, 40), -1);
+        Imgproc.rectangle(m, new Point(cx - r * 0.35, cy + r * 0.8), new Point(cx + r * 0.35, cy + r * 1.5),
+            new Scalar(150, 170, 200), -1);
+        // Hair, then the face over it
+        Imgproc.ellipse(m, new Point(cx, cy - r * 0.15), new Size(r * 0.92, r * 1.15), 0, 0, 360, new Scalar(30, 35, 45), -1);
+        Imgproc.ellipse(m, new Point(cx, cy + r * 0.1), new Size(r * 0.78, r), 0, 0, 360, new Scalar(160, 180, 215), -1);
+        for (int side = -1; side <= 1; side += 2) {
+            double eyeX = cx + side * r * 0.33;
+            Imgproc.ellipse(m, new Point(eyeX, cy - r * 0.22), new Size(r * 0.2, r * 0.06), 0, 0, 360, new Scalar(40, 45, 55), -1);
+            Imgproc.ellipse(m, new Point(eyeX, cy - r * 0.05), new Size(r * 0.15, r * 0.08), 0, 0, 360, new Scalar(50, 50, 60), -1);
+            Imgproc.circle(m, new Point(eyeX, cy - r * 0.05), (int) (r * 0.05), new Scalar(20, 20, 20), -1);
+        }
+        Imgproc.ellipse(m, new Point(cx, cy + r * 0.3), new Size(r * 0.12, r * 0.06), 0, 0, 360, new Scalar(120, 135, 170), -1);
+        Imgproc.ellipse(m, new Point(cx, cy + r * 0.58), new Size(r * 0.25, r * 0.07), 0, 0, 360, new Scalar(80, 80, 140), -1);
+        // Webcam softness
+        Imgproc.GaussianBlur(m, m, new Size(0, 0), r * 0.04);
+    }
+
+    private static void addNoise(Mat frame) {
+        Mat wide = new Mat();
+        Mat noise = new Mat(frame.size(), CvType.CV_16SC3);
+        frame.convertTo(wide, CvType.CV_16SC3);
+        Core.randn(noise, 0, 5);
+        Core.add(wide, noise, wide);
+        wide.convertTo(frame, CvType.CV_8UC3); // Saturates back into 0..255
+        wide.release();
+        noise.release();
+    }
+}
@@ -0,0 +1,65 @@
+package com.tutorial.game.benchmarks;
+
+import com.tutorial.game.gameComponenets.controllers.SpellRecognizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpellRecognizer} over core's labeled strokes (spells and near misses), one stroke
+ * per call, cycling through the set. stroke is the whole life of a stroke on the IPC
+ * thread: begin, a point per hand frame, then finish. finish is only what happens when
+ * the pinch ends, on strokes fed in advance, which is the latency a player notices.
+ * Neither allocates; -PjmhProfilers=gc shows gc.alloc.rate.norm at about 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpellRecognizerBenchmark {
+    private List<float[]> strokes;
+    private SpellRecognizer recognizer;
+    private SpellRecognizer[] fedRecognizers; // One per stroke, with its points already added
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        strokes = BenchmarkData.loadStrokes();
+        recognizer = new SpellRecognizer();
+        fedRecognizers = new SpellRecognizer[strokes.size()];
+        for (int s = 0; s < fedRecognizers.length; s++) {
+            fedRecognizers[s] = new SpellRecognizer();
+            feed(fedRecognizers[s], strokes.get(s));
+        }
+    }
+
+    private static void feed(SpellRecognizer recognizer, float[] points) {
+        recognizer.begin();
+        for (int i = 0; i < points.length; i += 2) {
+            recognizer.addPoint(points[i], points[i + 1]);
+        }
+    }
+
+    @Benchmark
+    public int stroke() {
+        float[] points = strokes.get(next);
+        next = (next + 1) % strokes.size();
+        feed(recognizer, points);
+        return recognizer.finish();
+    }
+
+    @Benchmark
+    public int finish() {
+        SpellRecognizer fed = fedRecognizers[next];
+        next = (next + 1) % fedRecognizers.length;
+        return fed.finish();
+    }
+}
@@ -1,14 +1,15 @@
 package com.tutorial.game;
 
+import com.tutorial.game.gameComponenets.controllers.CameraService;
+import com.tutorial.game.gameComponenets.controllers.FaceTracker;
+import com.tutorial.game.gameComponenets.controllers.SharedFrame;
+import com.tutorial.game.gameComponenets.gameObjects.ProjectileSystem;
+import com.tutorial.game.gameComponenets.utils.GameClock;
 import org.opencv.core.*;
 import org.opencv.imgproc.Imgproc;
 import org.opencv.objdetect.CascadeClassifier;
-import org.opencv.videoio.VideoCapture;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.opencv.highgui.HighGui;
 
@@ -16,8 +17,10 @@ import org.opencv.highgui.HighGui;
 public class FaceDetector {
 
     private CascadeClassifier faceDetector;
-    private VideoCapture camera;
-    private boolean cameraActive; //here is private so cannot access in TutorialGame
+    private FaceTracker faceTracker;
+    private CameraService cameraService;
+    private boolean ownsCameraService;
+    private long lastFrameSequence;
 
     // Tracking state
     private Point targetPosition;
@@ -26,19 +29,40 @@ public class FaceDetector {
     private double detectionConfidence;
 
     // Projectile system
-    private List<Projectile> projectiles = new CopyOnWriteArrayList<>();
+    private static final float PROJECTILE_RADIUS = 8;
+    private final ProjectileSystem projectiles = new ProjectileSystem(64);
+    private final Point projectilePoint = new Point();
+    private final Scalar projectileColor = new Scalar(0, 0, 255);
+    private final Scalar projectileTrailColor = new Scalar(0, 100, 255);
     private Random random = new Random();
+    private GameClock clock = GameClock.SYSTEM;
     private long lastProjectileTime = 0;
     private int projectilesDodged = 0;
     private int projectilesHit = 0;
     private boolean wasHitThisFrame = false;
 
     public FaceDetector(String cascadePath) { //this is a constructor
+        this(cascadePath, new CameraService(0));
+        ownsCameraService = true;
+    }
+
+    // Shares the camera with every other consumer instead of opening it again
+    public FaceDetector(String cascadePath, CameraService cameraService) {
         nu.pattern.OpenCV.loadLocally();
+        this.cameraService = cameraService;
         initializeFaceDetection(cascadePath);
         initializeCamera();
     }
 
+    // Seeded random and a controlled clock make projectile spawns replayable
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
     private void initializeFaceDetection(String cascadePath) {
         try {
             faceDetector = new CascadeClassifier(cascadePath);
@@ -47,6 +71,9 @@ public class FaceDetector {
             } else {
                 System.out.println("✅ Cascade classifier loaded successfully from: " + cascadePath);
             }
+            // Track the face in a window around its last position, full scan every 15 frames
+            faceTracker = new FaceTracker(faceDetector, 1.1, 3,
+                new Size(100, 100), new Size(500, 500), 15);
         } catch (Exception e) {
             System.err.println("Failed to initialize face detection: " + e.getMessage());
             e.printStackTrace();
@@ -54,25 +81,26 @@ public class FaceDetector {
     }
 
     private void initializeCamera() {
-        camera = new VideoCapture(0);
-        cameraActive = camera.isOpened();
+        cameraService.start();
         targetPosition = new Point(0, 0);
         targetLocked = false;
     }
 
     public Mat processFrame() {
-        if (!cameraActive) return null;
-
-        Mat frame = new Mat();
-        camera.read(frame);
+        SharedFrame sharedFrame = cameraService.acquireLatest();
+        if (sharedFrame == null) return null;
 
-        if (frame.empty()) {
-            frame.release();
+        // Nothing new since the last call
+        if (sharedFrame.getSequence() == lastFrameSequence) {
+            sharedFrame.release();
             return null;
         }
+        lastFrameSequence = sharedFrame.getSequence();
 
-        // Mirror the camera
-        Core.flip(frame, frame, 1);
+        // Mirror the camera into our own frame; the shared one is read-only
+        Mat frame = new Mat();
+        Core.flip(sharedFrame.mat(), frame, 1);
+        sharedFrame.release();
 
         detectFaces(frame);
         updateProjectiles(frame.size());
@@ -88,20 +116,14 @@ public class FaceDetector {
 
     private void detectFaces(Mat frame) {
         Mat grayFrame = new Mat();
-        List<Rect> faces = new ArrayList<>();
+        Rect face = null;
 
         try {
             Imgproc.cvtColor(frame, grayFrame, Imgproc.COLOR_BGR2GRAY);
             Imgproc.equalizeHist(grayFrame, grayFrame);
 
-            MatOfRect faceDetections = new MatOfRect();
-            faceDetector.detectMultiScale(
-                grayFrame, faceDetections, 1.1, 3, 0,
-                new Size(100, 100), new Size(500, 500)
-            );
-
-            faces = faceDetections.toList();
-            faceDetections.release();
+            // Largest face, searched around the last one when possible
+            face = faceTracker.detect(grayFrame);
 
         } catch (Exception e) {
             System.err.println("Error during face detection: " + e.getMessage());
@@ -109,26 +131,18 @@ public class FaceDetector {
             grayFrame.release();
         }
 
-        updateTrackingState(faces, frame.size());
+        updateTrackingState(face, frame.size());
     }
 
-    private void updateTrackingState(List<Rect> faces, Size frameSize) {
-        if (faces.isEmpty()) {
+    private void updateTrackingState(Rect largestFace, Size frameSize) {
+        if (largestFace == null) {
             targetLocked = false;
             detectionConfidence = 0.0;
             return;
         }
 
-        Rect largestFace = faces.get(0);
         double maxArea = largestFace.area();
 
-        for (Rect face : faces) {
-            if (face.area() > maxArea) {
-                maxArea = face.area();
-                largestFace = face;
-            }
-        }
-
         currentFace = largestFace;
         targetPosition.x = currentFace.x + currentFace.width / 2.0;
         targetPosition.y = currentFace.y + currentFace.height / 2.0;
@@ -139,17 +153,16 @@ public class FaceDetector {
     }
 
     private void spawnProjectiles() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
 
         // Spawn new projectile every 0.5-1.5 seconds
         if (currentTime - lastProjectileTime > 500 + random.nextInt(1000)) {
-            Projectile projectile = createProjectile();
-            projectiles.add(projectile);
+            createProjectile();
             lastProjectileTime = currentTime;
         }
     }
 
-    private Projectile createProjectile() {
+    private void createProjectile() {
         Size frameSize = new Size(640, 480); // Adjust based on your camera resolution
         int side = random.nextInt(4); // 0: top, 1: right, 2: bottom, 3: left
 
@@ -183,20 +196,15 @@ public class FaceDetector {
                 break;
         }
 
-        return new Projectile(x, y, vx, vy);
+        // Pixel coordinates, position is the centre; no spin and armed straight away
+        projectiles.spawn((float) x, (float) y, (float) vx, (float) vy, 0, 0,
+            PROJECTILE_RADIUS * 2, 0, projectiles.newVolley());
     }
 
     private void updateProjectiles(Size frameSize) {
-        for (Projectile projectile : projectiles) {
-            projectile.update();
-
-            // Remove projectiles that are off-screen
-            if (projectile.x < -50 || projectile.x > frameSize.width + 50 ||
-                projectile.y < -50 || projectile.y > frameSize.height + 50) {
-                projectiles.remove(projectile);
-                projectilesDodged++;
-            }
-        }
+        // Remove projectiles that are off-screen
+        projectiles.setBounds(-50, -50, (float) frameSize.width + 50, (float) frameSize.height + 50);
+        projectilesDodged += projectiles.update(0);
     }
 
     private void checkCollisions() {
@@ -204,18 +212,12 @@ public class FaceDetector {
 
         if (!targetLocked) return;
 
-        for (Projectile projectile : projectiles) {
-            double distance = Math.sqrt(
-                Math.pow(projectile.x - targetPosition.x, 2) +
-                    Math.pow(projectile.y - targetPosition.y, 2)
-            );
-
-            if (distance < 30) { // Collision detection radius
-                projectiles.remove(projectile);
-                projectilesHit++;
-                wasHitThisFrame = true;
-                break; // Only count one hit per frame
-            }
+        // Only count one hit per frame
+        int hit = projectiles.findWithin((float) targetPosition.x, (float) targetPosition.y, 30); // Collision detection radius
+        if (hit >= 0) {
+            projectiles.removeAt(hit);
+            projectilesHit++;
+            wasHitThisFrame = true;
         }
     }
 
@@ -238,8 +240,13 @@ public class FaceDetector {
         }
 
         // Draw projectiles
-        for (Projectile projectile : projectiles) {
-            projectile.draw(displayFrame);
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectilePoint.x = projectiles.getX(i);
+            projectilePoint.y = projectiles.getY(i);
+            // Draw projectile as red circle
+            Imgproc.circle(displayFrame, projectilePoint, (int) PROJECTILE_RADIUS, projectileColor, -1);
+            // Draw trail
+            Imgproc.circle(displayFrame, projectilePoint, 12, projectileTrailColor, 2);
         }
 
         // Draw HUD
@@ -272,51 +279,22 @@ public class FaceDetector {
             Imgproc.FONT_HERSHEY_SIMPLEX, 0.5, textColor, 1);
     }
 
-    // Projectile class
-    private class Projectile {
-        double x, y;
-        double vx, vy;
-        long spawnTime;
-
-        Projectile(double x, double y, double vx, double vy) {
-            this.x = x;
-            this.y = y;
-            this.vx = vx;
-            this.vy = vy;
-            this.spawnTime = System.currentTimeMillis();
-        }
-
-        void update() {
-            x += vx;
-            y += vy;
-        }
-
-        void draw(Mat frame) {
-            // Draw projectile as red circle
-            Imgproc.circle(frame, new Point(x, y), 8, new Scalar(0, 0, 255), -1);
-            // Draw trail
-            Imgproc.circle(frame, new Point(x, y), 12, new Scalar(0, 100, 255), 2);
-        }
-    }
-
     // Public methods for game integration
     public Point getTargetPosition() { return targetPosition.clone(); }
     public boolean isTargetLocked() { return targetLocked; }
     public boolean wasHitThisFrame() { return wasHitThisFrame; }
     public int getProjectilesHit() { return projectilesHit; }
     public int getProjectilesDodged() { return projectilesDodged; }
+    public FaceTracker getFaceTracker() { return faceTracker; }
 
     public Mat getRawCameraFrame() {
-        if (camera == null || !camera.isOpened()) return null;
+        SharedFrame sharedFrame = cameraService.acquireLatest();
+        if (sharedFrame == null) return null;
 
         Mat frame = new Mat();
-        camera.read(frame);
-        if (!frame.empty()) {
-            Core.flip(frame, frame, 1); // Mirror
-            return frame;
-        }
-        frame.release();
-        return null;
+        Core.flip(sharedFrame.mat(), frame, 1); // Mirror
+        sharedFrame.release();
+        return frame;
     }
 
     // Reset game state
@@ -328,8 +306,11 @@ public class FaceDetector {
     }
 
     public void cleanup() {
-        if (camera != null && camera.isOpened()) {
-            camera.release();
+        if (ownsCameraService) {
+            cameraService.dispose();
+        }
+        if (faceTracker != null) {
+            faceTracker.dispose();
         }
     }
 
@@ -5,13 +5,19 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.tutorial.game.gameComponenets.controllers.CameraService;
 import com.tutorial.game.gameComponenets.screens.EndScreen;
 import com.tutorial.game.gameComponenets.screens.StartScreen;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
 
 public class MainGame extends Game {
     public SpriteBatch batch;
     public BitmapFont font;
     public FitViewport viewport;
+    public CameraService cameraService; // Single owner of camera 0 for the whole game
+    public GameAssets assets; // Shared textures, loaded once
+    public JobSystem jobs; // Worker threads for simulation passes
 
     @Override
     public void create() {
@@ -20,6 +26,10 @@ public class MainGame extends Game {
         // use libGDX's default font
         font = new BitmapFont();
         viewport = new FitViewport(58, 32);
+        cameraService = new CameraService(0);
+        assets = new GameAssets();
+        assets.load();
+        jobs = new JobSystem(Runtime.getRuntime().availableProcessors());
 
         //font has 15pt, but we need to scale it to our viewport by ratio of viewport height to screen height
         font.setUseIntegerPositions(false);
@@ -39,6 +49,9 @@ public class MainGame extends Game {
     public void dispose() {
         batch.dispose();
         font.dispose();
+        cameraService.dispose();
+        assets.dispose();
+        jobs.dispose();
     }
 
 }
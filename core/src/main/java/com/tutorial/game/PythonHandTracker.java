@@ -4,96 +4,278 @@ import org.opencv.core.*;
 import org.opencv.videoio.VideoCapture;
 import org.opencv.imgproc.Imgproc;
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.annotations.SerializedName;
+import com.tutorial.game.gameComponenets.controllers.IpcEventLoop;
+import com.tutorial.game.gameComponenets.controllers.SpellRecognizer;
+import com.tutorial.game.gameComponenets.utils.PointRingBuffer;
 
 
-import java.io.*;
-import java.net.Socket;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class PythonHandTracker {
-    private Socket socket;
-    private BufferedReader reader;
-    private PrintWriter writer;
+    // Binary protocol, offered at connect time; servers that don't answer get JSON lines
+    private static final String BINARY_HELLO = "PROTOCOL BINARY 1";
+    private static final String BINARY_ACCEPTED = "OK BINARY 1";
+    private static final short BINARY_MAGIC = 0x4844; // "HD"
+    // magic(2) version(1) flags(1) gesture(1) landmarkCount(1) reserved(2), index tip (2 floats), 21 landmarks (2 floats each)
+    private static final int BINARY_FRAME_SIZE = 8 + 2 * 4 + HandData.LANDMARK_COUNT * 2 * 4;
+    private static final int FLAG_PINCH = 1;
+    private static final int FLAG_INDEX_TIP = 2;
+
+    // Gesture ids shared with hand_tracker_server.py
+    public static final String[] GESTURES = {
+        "none", "peace", "point", "open_hand", "fist", "pinch", "four_fingers", "unknown"
+    };
+
+    // The connection is serviced by the shared IPC thread, which also runs the decoding below
+    private IpcEventLoop ipc;
+    private IpcEventLoop.StreamEndpoint stream;
     private Gson gson;
-    private HandData currentHandData;
-    private boolean connected = false;
-
-    // Drawing state
-    private List<Point> drawingPoints = new ArrayList<>();
+    private volatile boolean connected = false;
+    private boolean handshakeDone = false; // IPC thread
+    private boolean binaryProtocol = false;
+    private byte[] lineBytes = new byte[256]; // IPC thread scratch for handshake and JSON lines
+
+    // Triple-buffered snapshots: the IPC thread fills writeSnapshot, the render thread
+    // reads readSnapshot, and completed frames are swapped through publishedSnapshot
+    private HandData writeSnapshot;
+    private final AtomicReference<HandData> publishedSnapshot;
+    private HandData readSnapshot;
+    private long snapshotSequence;
+
+    // Drawing state, owned by the IPC thread
+    public static final int DEFAULT_TRAIL_CAPACITY = 256;
+    private final PointRingBuffer trail;
+    private final SpellRecognizer recognizer = new SpellRecognizer();
     private boolean isDrawing = false;
+    private volatile boolean clearTrailRequested;
+    private int lastSpell = SpellRecognizer.SPELL_NONE;
+    private float lastSpellScore;
+    private int strokeCount;
     private long lastSpellTime = 0;
+    private int consumedStroke; // Render thread
+
+    // Render thread scratch for drawing the trail
+    private final Point trailFrom = new Point();
+    private final Point trailTo = new Point();
+    private final Scalar trailColor = new Scalar(0, 0, 255);
 
     public PythonHandTracker() {
+        this(DEFAULT_TRAIL_CAPACITY);
+    }
+
+    public PythonHandTracker(int trailCapacity) {
         this.gson = new Gson();
-        this.currentHandData = new HandData();
+        this.trail = new PointRingBuffer(trailCapacity);
+        this.writeSnapshot = new HandData(trailCapacity);
+        this.publishedSnapshot = new AtomicReference<>(new HandData(trailCapacity));
+        this.readSnapshot = new HandData(trailCapacity);
     }
 
     public boolean connect(String host, int port) {
         try {
-            socket = new Socket(host, port);
-            reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            writer = new PrintWriter(socket.getOutputStream(), true);
-            connected = true;
+            ipc = IpcEventLoop.acquire();
+            stream = ipc.connect(host, port, new IpcEventLoop.StreamHandler() {
+                @Override
+                public void onData(ByteBuffer data) throws IOException {
+                    decode(data);
+                }
 
-            // Start data reading thread
-            Thread dataThread = new Thread(this::readData);
-            dataThread.setDaemon(true);
-            dataThread.start();
+                @Override
+                public void onClosed(String reason) {
+                    System.err.println("Disconnected from Python server: " + reason);
+                    connected = false;
+                }
+            });
+            connected = true;
 
+            // Offer the binary protocol; the first line back tells us which one we got
+            stream.write((BINARY_HELLO + "\n").getBytes(StandardCharsets.US_ASCII));
             System.out.println("Connected to Python hand tracker server");
             return true;
 
         } catch (IOException e) {
             System.err.println("Failed to connect to Python server: " + e.getMessage());
+            IpcEventLoop.release(ipc);
+            ipc = null;
             return false;
         }
     }
 
-    private void readData() {
-        try {
+    // Replaying a recorded stream (benchmarks): start decoding as if the handshake had settled on this protocol
+    void skipHandshake(boolean binary) {
+        handshakeDone = true;
+        binaryProtocol = binary;
+    }
+
+    // IPC thread: consume every complete message in data, leave any partial one
+    void decode(ByteBuffer data) throws IOException {
+        if (!handshakeDone) {
+            String reply = readLine(data);
+            if (reply == null) return;
+            handshakeDone = true;
+            binaryProtocol = BINARY_ACCEPTED.equals(reply);
+            System.out.println("Python hand tracker speaks the " + (binaryProtocol ? "binary" : "JSON") + " protocol");
+            if (!binaryProtocol) {
+                // Older servers ignore the hello and just start streaming JSON
+                onJsonLine(reply);
+            }
+        }
+
+        if (binaryProtocol) {
+            while (data.remaining() >= BINARY_FRAME_SIZE) {
+                readBinaryFrame(data);
+            }
+        } else {
             String line;
-            while (connected && (line = reader.readLine()) != null) {
-                try {
-                    JsonObject json = JsonParser.parseString(line).getAsJsonObject();
-                    currentHandData = gson.fromJson(json, HandData.class);
-
-                    // Update drawing state based on pinch gesture
-                    if (currentHandData.pinch && !isDrawing) {
-                        isDrawing = true;
-                        drawingPoints.clear();
-                        System.out.println("Drawing started (pinch detected)");
-                    } else if (!currentHandData.pinch && isDrawing) {
-                        isDrawing = false;
-                        System.out.println("Drawing stopped");
-                    }
-
-                    // Add point to drawing if in drawing mode
-                    if (isDrawing && currentHandData.indexTip != null) {
-                        Point drawingPoint = new Point(
-                            currentHandData.indexTip.x,
-                            currentHandData.indexTip.y
-                        );
-                        drawingPoints.add(drawingPoint);
-
-                        // Limit drawing points
-                        if (drawingPoints.size() > 50) {
-                            drawingPoints.remove(0);
-                        }
-                    }
-
-                } catch (Exception e) {
-                    System.err.println("Error parsing hand data: " + e.getMessage());
-                }
+            while ((line = readLine(data)) != null) {
+                onJsonLine(line);
             }
-        } catch (IOException e) {
-            System.err.println("Disconnected from Python server: " + e.getMessage());
-            connected = false;
         }
     }
 
+    // One line without its terminator, or null (nothing consumed) if the line is incomplete
+    private String readLine(ByteBuffer data) {
+        int start = data.position();
+        int end = -1;
+        for (int i = start; i < data.limit(); i++) {
+            if (data.get(i) == '\n') {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) return null;
+
+        int length = end - start;
+        if (length > 0 && data.get(end - 1) == '\r') length--;
+        if (lineBytes.length < length) {
+            lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+        }
+        data.get(lineBytes, 0, length);
+        data.position(end + 1);
+        return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void readBinaryFrame(ByteBuffer frame) throws IOException {
+        if (frame.getShort() != BINARY_MAGIC) {
+            throw new IOException("Lost sync with binary hand data stream");
+        }
+        frame.get(); // version
+        int flags = frame.get();
+        int gestureId = frame.get() & 0xFF;
+        int landmarkCount = Math.min(frame.get() & 0xFF, HandData.LANDMARK_COUNT);
+        frame.getShort(); // reserved
+
+        HandData data = writeSnapshot;
+        data.gestureId = gestureId < GESTURES.length ? gestureId : GESTURES.length - 1;
+        data.pinch = (flags & FLAG_PINCH) != 0;
+        data.hasIndexTip = (flags & FLAG_INDEX_TIP) != 0;
+        data.indexTipX = frame.getFloat();
+        data.indexTipY = frame.getFloat();
+        for (int i = 0; i < HandData.LANDMARK_COUNT; i++) {
+            data.landmarkX[i] = frame.getFloat();
+            data.landmarkY[i] = frame.getFloat();
+        }
+        data.landmarkCount = landmarkCount;
+
+        onHandData();
+    }
+
+    private void onJsonLine(String line) {
+        if (line.isEmpty()) return;
+        try {
+            JsonHandData json = gson.fromJson(line, JsonHandData.class);
+            copyJsonHandData(json, writeSnapshot);
+            onHandData();
+        } catch (Exception e) {
+            System.err.println("Error parsing hand data: " + e.getMessage());
+        }
+    }
+
+    private void copyJsonHandData(JsonHandData json, HandData data) {
+        int count = json.landmarks == null ? 0 : Math.min(json.landmarks.size(), HandData.LANDMARK_COUNT);
+        for (int i = 0; i < count; i++) {
+            data.landmarkX[i] = (float) json.landmarks.get(i).x;
+            data.landmarkY[i] = (float) json.landmarks.get(i).y;
+        }
+        data.landmarkCount = count;
+        data.gestureId = gestureId(json.gesture);
+        data.pinch = json.pinch;
+        // The server sends index_tip {0, 0} when it sees no hand; only trust it with landmarks,
+        // like the binary frame's flag
+        data.hasIndexTip = json.indexTip != null && count > 0;
+        if (data.hasIndexTip) {
+            data.indexTipX = (float) json.indexTip.x;
+            data.indexTipY = (float) json.indexTip.y;
+        }
+    }
+
+    private static int gestureId(String gesture) {
+        for (int i = 0; i < GESTURES.length; i++) {
+            if (GESTURES[i].equals(gesture)) return i;
+        }
+        return GESTURES.length - 1; // unknown
+    }
+
+    // IPC thread: update the trail from the frame in writeSnapshot, then publish it
+    private void onHandData() {
+        HandData data = writeSnapshot;
+
+        if (clearTrailRequested) {
+            clearTrailRequested = false;
+            trail.clear();
+            recognizer.begin();
+        }
+
+        // Update drawing state based on pinch gesture
+        if (data.pinch && !isDrawing) {
+            isDrawing = true;
+            trail.clear();
+            recognizer.begin();
+            System.out.println("Drawing started (pinch detected)");
+        } else if (!data.pinch && isDrawing) {
+            isDrawing = false;
+            // The recognizer has been fed all along, so this only resamples and matches
+            lastSpell = recognizer.finish();
+            lastSpellScore = (float) recognizer.getLastScore();
+            strokeCount++;
+            System.out.println("Drawing stopped: " + SpellRecognizer.getName(lastSpell)
+                + " (" + String.format("%.2f", lastSpellScore) + ")");
+        }
+
+        // Add point to drawing if in drawing mode
+        if (isDrawing && data.hasIndexTip) {
+            trail.add(data.indexTipX, data.indexTipY);
+            recognizer.addPoint(data.indexTipX, data.indexTipY);
+        }
+
+        publishSnapshot(data);
+    }
+
+    private void publishSnapshot(HandData data) {
+        data.trail.set(trail);
+        data.spell = lastSpell;
+        data.spellScore = lastSpellScore;
+        data.strokeId = strokeCount;
+        data.sequence = ++snapshotSequence;
+
+        // Hand the finished frame over and take back whichever buffer was waiting
+        writeSnapshot = publishedSnapshot.getAndSet(data);
+    }
+
+    /** Latest complete hand frame. Render thread only; valid until the next call. */
+    public HandData getHandSnapshot() {
+        if (publishedSnapshot.get().sequence > readSnapshot.sequence) {
+            readSnapshot = publishedSnapshot.getAndSet(readSnapshot);
+        }
+        return readSnapshot;
+    }
+
     public Mat processFrame(Mat frame) {
         if (!connected) {
             // Fallback: draw connection message
@@ -104,32 +286,39 @@ public class PythonHandTracker {
         }
 
         Mat displayFrame = frame.clone();
+        HandData hand = getHandSnapshot();
 
         // Draw hand landmarks if available
-        if (currentHandData.landmarks != null && !currentHandData.landmarks.isEmpty()) {
-            drawHandLandmarks(displayFrame, currentHandData.landmarks);
+        if (hand.landmarkCount > 0) {
+            drawHandLandmarks(displayFrame, hand);
         }
 
         // Draw drawing trail
-        for (int i = 1; i < drawingPoints.size(); i++) {
-            Point prev = drawingPoints.get(i - 1);
-            Point curr = drawingPoints.get(i);
-            Imgproc.line(displayFrame, prev, curr, new Scalar(0, 0, 255), 4);
+        PointRingBuffer.Cursor points = hand.trail.cursor();
+        if (points.next()) {
+            trailFrom.x = points.x();
+            trailFrom.y = points.y();
+            while (points.next()) {
+                trailTo.x = points.x();
+                trailTo.y = points.y();
+                Imgproc.line(displayFrame, trailFrom, trailTo, trailColor, 4);
+                trailFrom.x = trailTo.x;
+                trailFrom.y = trailTo.y;
+            }
         }
 
         // Draw current gesture info
-        drawGestureInfo(displayFrame);
+        drawGestureInfo(displayFrame, hand);
 
         return displayFrame;
     }
 
-    private void drawHandLandmarks(Mat frame, List<Landmark> landmarks) {
-        System.out.println("Drawing " + landmarks.size() + " landmarks");
+    private void drawHandLandmarks(Mat frame, HandData hand) {
+        int count = hand.landmarkCount;
 
         // Draw landmarks
-        for (Landmark landmark : landmarks) {
-            Point point = new Point(landmark.x, landmark.y);
-            System.out.println("Landmark at: " + point);
+        for (int i = 0; i < count; i++) {
+            Point point = new Point(hand.landmarkX[i], hand.landmarkY[i]);
             Imgproc.circle(frame, point, 3, new Scalar(0, 255, 0), -1);
         }
 
@@ -143,20 +332,20 @@ public class PythonHandTracker {
         };
 
         for (int[] connection : connections) {
-            if (connection[0] < landmarks.size() && connection[1] < landmarks.size()) {
-                Point p1 = new Point(landmarks.get(connection[0]).x, landmarks.get(connection[0]).y);
-                Point p2 = new Point(landmarks.get(connection[1]).x, landmarks.get(connection[1]).y);
+            if (connection[0] < count && connection[1] < count) {
+                Point p1 = new Point(hand.landmarkX[connection[0]], hand.landmarkY[connection[0]]);
+                Point p2 = new Point(hand.landmarkX[connection[1]], hand.landmarkY[connection[1]]);
                 Imgproc.line(frame, p1, p2, new Scalar(0, 255, 0), 2);
             }
         }
     }
 
-    private void drawGestureInfo(Mat frame) {
+    private void drawGestureInfo(Mat frame, HandData hand) {
         Scalar textColor = new Scalar(255, 255, 255);
-        Scalar gestureColor = currentHandData.pinch ? new Scalar(0, 255, 255) : new Scalar(0, 255, 0);
+        Scalar gestureColor = hand.pinch ? new Scalar(0, 255, 255) : new Scalar(0, 255, 0);
 
-        String gestureText = "Gesture: " + currentHandData.gesture;
-        if (currentHandData.pinch) {
+        String gestureText = "Gesture: " + hand.getGesture();
+        if (hand.pinch) {
             gestureText += " (DRAWING)";
         }
 
@@ -165,16 +354,25 @@ public class PythonHandTracker {
 
         Imgproc.putText(frame, "Pinch to draw spells in air",
             new Point(20, 60), Imgproc.FONT_HERSHEY_SIMPLEX, 0.5, textColor, 1);
+
+        if (hand.strokeId > 0) {
+            String spellText = "Last stroke: " + SpellRecognizer.getName(hand.spell)
+                + String.format(" (%.2f)", hand.spellScore);
+            Imgproc.putText(frame, spellText,
+                new Point(20, 90), Imgproc.FONT_HERSHEY_SIMPLEX, 0.5, textColor, 1);
+        }
     }
 
-    // Spell recognition (same as before)
+    /**
+     * Returns the spell recognized for the last finished stroke, once per stroke, or
+     * SpellRecognizer.SPELL_NONE. Recognition itself runs on the IPC thread when the pinch ends.
+     */
     public int recognizeSpell() {
-        if (drawingPoints.size() < 8) return -1;
+        HandData hand = getHandSnapshot();
+        if (hand.strokeId == consumedStroke) return SpellRecognizer.SPELL_NONE;
 
-        // Your existing spell recognition logic here
-        // Check for square, circle, triangle, cross
-
-        return -1; // No spell recognized
+        consumedStroke = hand.strokeId;
+        return hand.spell;
     }
 
     public void castSpell(int spellType) {
@@ -182,29 +380,63 @@ public class PythonHandTracker {
         if (currentTime - lastSpellTime < 2000) return;
 
         lastSpellTime = currentTime;
-        drawingPoints.clear();
+        clearTrailRequested = true; // The IPC thread owns the trail
 
         // Your existing spell casting logic here
-        System.out.println("Spell cast: " + spellType);
+        System.out.println("Spell cast: " + SpellRecognizer.getName(spellType));
     }
 
     public void disconnect() {
         connected = false;
-        try {
-            if (reader != null) reader.close();
-            if (writer != null) writer.close();
-            if (socket != null) socket.close();
-        } catch (IOException e) {
-            System.err.println("Error disconnecting: " + e.getMessage());
+        if (stream != null) {
+            stream.close();
+            stream = null;
         }
+        IpcEventLoop.release(ipc);
+        ipc = null;
     }
 
     // Data classes
+    // One hand frame plus the drawing trail. Reused, and owned by a single thread at a time
     public static class HandData {
-        public List<Landmark> landmarks = new ArrayList<>();
-        public String gesture = "none";
-        public Landmark indexTip;
+        public static final int LANDMARK_COUNT = 21;
+
+        public final float[] landmarkX = new float[LANDMARK_COUNT];
+        public final float[] landmarkY = new float[LANDMARK_COUNT];
+        public int landmarkCount;
+        public int gestureId;
+        public float indexTipX;
+        public float indexTipY;
+        public boolean hasIndexTip;
         public boolean pinch = false;
+
+        // Copy of the drawing trail at the time of this frame
+        public final PointRingBuffer trail;
+
+        // Result for the most recent finished stroke; strokeId changes once per stroke
+        public int spell = SpellRecognizer.SPELL_NONE;
+        public float spellScore;
+        public int strokeId;
+
+        // Written last by the IPC thread; lets the render thread spot a newer frame
+        volatile long sequence;
+
+        HandData(int trailCapacity) {
+            trail = new PointRingBuffer(trailCapacity);
+        }
+
+        public String getGesture() {
+            return GESTURES[gestureId];
+        }
+    }
+
+    // JSON wire format, only used when the server does not speak the binary protocol
+    static class JsonHandData {
+        List<Landmark> landmarks = new ArrayList<>();
+        String gesture = "none";
+        @SerializedName("index_tip")
+        Landmark indexTip;
+        boolean pinch = false;
     }
 
     public static class Landmark {
@@ -6,21 +6,20 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
-import org.opencv.core.Core;
+import com.tutorial.game.gameComponenets.controllers.CameraService;
+import com.tutorial.game.gameComponenets.controllers.SpellRecognizer;
+import com.tutorial.game.gameComponenets.utils.CameraTexture;
 import org.opencv.core.Mat;
-import org.opencv.imgproc.Imgproc;
 import org.opencv.videoio.VideoCapture;
 
 import com.badlogic.gdx.files.FileHandle;
 
-import java.nio.ByteBuffer;
-
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class TutorialGame extends ApplicationAdapter {
 
     private SpriteBatch batch;
     private Texture image;
-    private Texture cameraTexture;
+    private CameraTexture cameraFeed; // Shared by face and hand modes
 
     private PythonHandTracker handTracker;
     private VideoCapture camera;
@@ -31,18 +30,23 @@ public class TutorialGame extends ApplicationAdapter {
     private String currentMode = "Face Detection";
 
     private FaceDetector faceDetector;
+    private CameraService cameraService;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
         image = new Texture("libgdx.png");
+        cameraFeed = new CameraTexture();
 
         // Initialize OpenCV
         nu.pattern.OpenCV.loadLocally();
 
+        // One camera owner shared by face and hand modes
+        cameraService = new CameraService(0);
+
         // Initialize FaceDetector
         FileHandle cascadeFile = Gdx.files.internal("haarcascade_frontalface_alt.xml");
-        faceDetector = new FaceDetector(cascadeFile.file().getAbsolutePath());
+        faceDetector = new FaceDetector(cascadeFile.file().getAbsolutePath(), cameraService);
 
         // Initialize hand tracker
         handTracker = new PythonHandTracker();
@@ -88,13 +92,20 @@ public class TutorialGame extends ApplicationAdapter {
                 processedFrame = handTracker.processFrame(testFrame);
                 testFrame.release();
             }
+
+            int spell = handTracker.recognizeSpell();
+            if (spell != SpellRecognizer.SPELL_NONE) {
+                handTracker.castSpell(spell);
+            }
         }
 
         if (processedFrame != null) {
-            cameraTexture = matToTexture(processedFrame);
+            uploadCameraFrame(processedFrame);
             processedFrame.release();
         }
 
+        Texture cameraTexture = cameraFeed.getTexture();
+
         batch.begin();
 
         // Draw camera feed if available
@@ -117,35 +128,14 @@ public class TutorialGame extends ApplicationAdapter {
     }
 
 
-    private Texture matToTexture(Mat mat) {
-        if (mat.empty()) return null;
+    private void uploadCameraFrame(Mat mat) {
+        if (mat.empty()) return;
 
         try {
-            // Convert BGR to RGB
-            Mat rgbMat = new Mat();
-            Imgproc.cvtColor(mat, rgbMat, Imgproc.COLOR_BGR2RGB);
-
-            // Create texture from Mat data
-            byte[] data = new byte[rgbMat.cols() * rgbMat.rows() * (int)rgbMat.elemSize()];
-            rgbMat.get(0, 0, data);
-
-            // Create Pixmap and Texture directly
-            com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(
-                rgbMat.cols(), rgbMat.rows(), com.badlogic.gdx.graphics.Pixmap.Format.RGB888
-            );
-
-            // Copy data to Pixmap
-            com.badlogic.gdx.utils.BufferUtils.copy(data, 0, pixmap.getPixels(), data.length);
-
-            Texture texture = new Texture(pixmap);
-            pixmap.dispose(); // Important: dispose the pixmap after creating texture
-
-            rgbMat.release();
-            return texture;
-
+            // Convert BGR to RGB straight into the back camera texture, then swap
+            cameraFeed.update(mat, false);
         } catch (Exception e) {
             System.err.println("Error converting Mat to Texture: " + e.getMessage());
-            return null;
         }
     }
 
@@ -153,13 +143,13 @@ public class TutorialGame extends ApplicationAdapter {
     public void dispose() {
         batch.dispose();
         image.dispose();
-        if (cameraTexture != null) {
-            cameraTexture.dispose();
-        }
+        cameraFeed.dispose();
 
         if (handTracker != null) {
             handTracker.disconnect();
         }
+        faceDetector.cleanup();
+        cameraService.dispose();
     }
 
     @Override
@@ -0,0 +1,255 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import org.opencv.videoio.VideoCapture;
+import org.opencv.videoio.Videoio;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single owner of the camera device.
+ * A capture thread reads frames into pooled {@link SharedFrame}s and fans each one out to
+ * every registered {@link FrameListener}; consumers that poll instead can grab the most
+ * recent frame with {@link #acquireLatest()}. The device is opened once and kept open.
+ */
+public class CameraService {
+
+    /** Called on the capture thread. Retain the frame to keep it after returning. */
+    public interface FrameListener {
+        void onFrame(SharedFrame frame);
+    }
+
+    private static boolean nativeLoaded;
+
+    private final int deviceIndex;
+    private final int requestedWidth;
+    private final int requestedHeight;
+    private final int requestedFps;
+
+    private VideoCapture camera; // Owned by the capture thread
+    private Thread captureThread;
+    private Thread stoppingThread; // A capture thread that outlived stop()'s join and still holds the device
+    private volatile boolean running;
+    private volatile boolean opened;
+    private volatile int frameWidth;
+    private volatile int frameHeight;
+    private long sequence;
+
+    private final CopyOnWriteArrayList<FrameListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object dispatchLock = new Object(); // Held by the capture thread while calling listeners
+    private final AtomicReference<SharedFrame> latestFrame = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<SharedFrame> freeFrames = new ConcurrentLinkedQueue<>();
+
+    public CameraService(int deviceIndex) {
+        this(deviceIndex, 640, 480, 30);
+    }
+
+    public CameraService(int deviceIndex, int width, int height, int fps) {
+        this.deviceIndex = deviceIndex;
+        this.requestedWidth = width;
+        this.requestedHeight = height;
+        this.requestedFps = fps;
+    }
+
+    // Loads the OpenCV natives once for every camera user
+    public static synchronized void loadNativeLibrary() {
+        if (nativeLoaded) return;
+        try {
+            // Load OpenCV DLL (use your existing working path)
+            File dllFile = new File("libs\\opencv_java451.dll"); //use load instead of loadlibrary
+            System.load(dllFile.getAbsolutePath());
+        } catch (UnsatisfiedLinkError e) {
+            // Fall back to the natives bundled with the openpnp jar
+            nu.pattern.OpenCV.loadLocally();
+        }
+        nativeLoaded = true;
+    }
+
+    /**
+     * Starts the capture thread. Safe to call more than once; the device is only opened again
+     * once the loop has ended, for example after it failed to open it.
+     */
+    public synchronized void start() {
+        if (captureThread != null && captureThread.isAlive()) return;
+        // The old loop releases the device on its way out; never let a new one open it first
+        awaitStoppingThread();
+
+        running = true;
+        captureThread = new Thread(this::captureLoop, "CameraCapture");
+        captureThread.setDaemon(true);
+        captureThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (captureThread != null) {
+            try {
+                captureThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (captureThread.isAlive()) {
+                // Usually stuck in camera.read(); start() and dispose() wait for it
+                System.err.println("⚠️ Camera capture thread is still closing");
+                stoppingThread = captureThread;
+            }
+            captureThread = null;
+        }
+    }
+
+    private void awaitStoppingThread() {
+        if (stoppingThread == null) return;
+
+        boolean interrupted = false;
+        while (stoppingThread.isAlive()) {
+            try {
+                stoppingThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        stoppingThread = null;
+    }
+
+    private void captureLoop() {
+        if (!openDevice()) {
+            running = false;
+            if (camera != null) {
+                camera.release();
+                camera = null;
+            }
+            return;
+        }
+
+        try {
+            while (running) {
+                SharedFrame frame = freeFrames.poll();
+                if (frame == null) {
+                    frame = new SharedFrame(this);
+                }
+
+                if (!camera.read(frame.mat()) || frame.mat().empty()) {
+                    freeFrames.offer(frame);
+                    Thread.sleep(5);
+                    continue;
+                }
+
+                frame.publish(++sequence, System.nanoTime());
+                frameWidth = frame.mat().cols();
+                frameHeight = frame.mat().rows();
+
+                synchronized (dispatchLock) {
+                    for (FrameListener listener : listeners) {
+                        try {
+                            listener.onFrame(frame);
+                        } catch (Exception e) {
+                            System.err.println("Camera listener failed: " + e.getMessage());
+                        }
+                    }
+                }
+
+                // The service keeps one reference to the latest frame for pollers
+                SharedFrame previous = latestFrame.getAndSet(frame);
+                if (previous != null) {
+                    previous.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            opened = false;
+            camera.release();
+            SharedFrame previous = latestFrame.getAndSet(null);
+            if (previous != null) {
+                previous.release();
+            }
+        }
+    }
+
+    private boolean openDevice() {
+        try {
+            loadNativeLibrary();
+
+            camera = new VideoCapture(deviceIndex);
+            if (!camera.isOpened()) {
+                System.err.println("❌ Camera not accessible");
+                return false;
+            }
+
+            camera.set(Videoio.CAP_PROP_FRAME_WIDTH, requestedWidth);
+            camera.set(Videoio.CAP_PROP_FRAME_HEIGHT, requestedHeight);
+            camera.set(Videoio.CAP_PROP_FPS, requestedFps);
+
+            // Get actual camera dimensions
+            frameWidth = (int) camera.get(Videoio.CAP_PROP_FRAME_WIDTH);
+            frameHeight = (int) camera.get(Videoio.CAP_PROP_FRAME_HEIGHT);
+            opened = true;
+            System.out.println("✅ Camera: " + frameWidth + "x" + frameHeight + " @ " + requestedFps + " FPS");
+            return true;
+
+        } catch (Exception e) {
+            System.err.println("❌ Error opening camera: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Returns the most recent frame with an extra reference, or null. The caller must release it. */
+    public SharedFrame acquireLatest() {
+        while (true) {
+            SharedFrame frame = latestFrame.get();
+            if (frame == null) return null;
+            if (frame.tryRetain()) return frame;
+            // Raced with the capture thread replacing it; try again
+        }
+    }
+
+    void recycle(SharedFrame frame) {
+        if (running) {
+            freeFrames.offer(frame);
+        } else {
+            frame.dispose();
+        }
+    }
+
+    public void addListener(FrameListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Once this returns the listener is not being called and won't be again, so it can free
+     * what onFrame uses. Don't call it while holding a lock a listener might take.
+     */
+    public void removeListener(FrameListener listener) {
+        listeners.remove(listener);
+        synchronized (dispatchLock) {
+            // Nothing to do: taking the lock waits out a dispatch that may still hold the listener
+        }
+    }
+
+    public boolean isOpened() {
+        return opened;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public synchronized void dispose() {
+        stop();
+        awaitStoppingThread(); // The pooled frames are the capture thread's until it exits
+        listeners.clear();
+        SharedFrame frame;
+        while ((frame = freeFrames.poll()) != null) {
+            frame.dispose();
+        }
+    }
+}
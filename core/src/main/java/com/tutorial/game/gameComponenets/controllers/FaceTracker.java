@@ -0,0 +1,154 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import org.opencv.core.Mat;
+import org.opencv.core.MatOfRect;
+import org.opencv.core.Rect;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
+import org.opencv.objdetect.CascadeClassifier;
+
+/**
+ * Wraps a Haar cascade with a region-of-interest tracking mode.
+ * Once a face is found, later frames only search a padded window around it, at scales
+ * close to the last face size. A miss, or every {@code fullScanInterval} frames, falls back
+ * to a full-frame scan so new or fast-moving faces are still picked up.
+ * Not thread-safe; each caller owns its own tracker.
+ */
+public class FaceTracker {
+    // Detection runs on a downscaled frame; it is plenty for a face filling a good part of the view
+    public static final Size DETECT_SIZE = new Size(320, 240);
+
+    // Window padding on each side, as a fraction of the last face size
+    private static final double ROI_PADDING = 0.5;
+    // Scales searched inside the window, relative to the last face size
+    private static final double ROI_MIN_SCALE = 0.7;
+    private static final double ROI_MAX_SCALE = 1.4;
+
+    private final CascadeClassifier classifier;
+    private final double scaleFactor;
+    private final int minNeighbors;
+    private final Size minSize;
+    private final Size maxSize;
+    private final int fullScanInterval;
+    private final MatOfRect detections = new MatOfRect();
+
+    private boolean trackingEnabled = true;
+    private Rect lastFace;
+    private int framesSinceFullScan;
+
+    // Counters for tuning, written only by the detecting thread
+    private volatile long roiHits;
+    private volatile long roiMisses;
+    private volatile long fullScans;
+
+    public FaceTracker(CascadeClassifier classifier, double scaleFactor, int minNeighbors,
+                       Size minSize, Size maxSize, int fullScanInterval) {
+        this.classifier = classifier;
+        this.scaleFactor = scaleFactor;
+        this.minNeighbors = minNeighbors;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.fullScanInterval = fullScanInterval;
+    }
+
+    /**
+     * Turns a BGR camera frame into what {@link #detect} expects: downscaled to DETECT_SIZE
+     * into small, then grayscale and equalized into gray. Both Mats are reused between calls.
+     */
+    public static void prepare(Mat bgrFrame, Mat small, Mat gray) {
+        Imgproc.resize(bgrFrame, small, DETECT_SIZE);
+        Imgproc.cvtColor(small, gray, Imgproc.COLOR_BGR2GRAY);
+        Imgproc.equalizeHist(gray, gray);
+    }
+
+    /** Finds the largest face in an equalized grayscale frame. Returns null if none was found. */
+    public Rect detect(Mat grayFrame) {
+        if (trackingEnabled && lastFace != null && framesSinceFullScan < fullScanInterval) {
+            Rect face = detectAroundLastFace(grayFrame);
+            if (face != null) {
+                roiHits++;
+                framesSinceFullScan++;
+                lastFace = face;
+                return face;
+            }
+            roiMisses++;
+        }
+
+        fullScans++;
+        framesSinceFullScan = 0;
+        lastFace = detectLargest(grayFrame, minSize, maxSize);
+        return lastFace;
+    }
+
+    private Rect detectAroundLastFace(Mat grayFrame) {
+        int padX = (int) (lastFace.width * ROI_PADDING);
+        int padY = (int) (lastFace.height * ROI_PADDING);
+        int x1 = Math.max(0, lastFace.x - padX);
+        int y1 = Math.max(0, lastFace.y - padY);
+        int x2 = Math.min(grayFrame.cols(), lastFace.x + lastFace.width + padX);
+        int y2 = Math.min(grayFrame.rows(), lastFace.y + lastFace.height + padY);
+
+        double minSide = Math.max(minSize.width, lastFace.width * ROI_MIN_SCALE);
+        double maxSide = Math.min(maxSize.width, lastFace.width * ROI_MAX_SCALE);
+        if (x2 - x1 < minSide || y2 - y1 < minSide || maxSide < minSide) return null;
+
+        Mat window = grayFrame.submat(y1, y2, x1, x2);
+        Rect face = detectLargest(window, new Size(minSide, minSide), new Size(maxSide, maxSide));
+        window.release();
+
+        if (face == null) return null;
+
+        // Back to frame coordinates
+        face.x += x1;
+        face.y += y1;
+        return face;
+    }
+
+    private Rect detectLargest(Mat grayFrame, Size min, Size max) {
+        classifier.detectMultiScale(grayFrame, detections, scaleFactor, minNeighbors, 0, min, max);
+
+        Rect largest = null;
+        for (Rect face : detections.toArray()) {
+            if (largest == null || face.area() > largest.area()) {
+                largest = face;
+            }
+        }
+        return largest;
+    }
+
+    public void setTrackingEnabled(boolean trackingEnabled) {
+        this.trackingEnabled = trackingEnabled;
+    }
+
+    public boolean isTrackingEnabled() {
+        return trackingEnabled;
+    }
+
+    // Forget the last face so the next call scans the whole frame
+    public void reset() {
+        lastFace = null;
+        framesSinceFullScan = 0;
+    }
+
+    public long getRoiHits() {
+        return roiHits;
+    }
+
+    public long getRoiMisses() {
+        return roiMisses;
+    }
+
+    public long getFullScans() {
+        return fullScans;
+    }
+
+    public void resetCounters() {
+        roiHits = 0;
+        roiMisses = 0;
+        fullScans = 0;
+    }
+
+    public void dispose() {
+        detections.release();
+    }
+}
@@ -0,0 +1,173 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Size;
+import org.opencv.imgproc.Imgproc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Publishes camera frames into a memory-mapped ring file so hand_engine.py can read them
+ * instead of opening the camera itself.
+ *
+ * Layout (little-endian): a 64 byte header, then {@code slotCount} slots.
+ * Header: magic, version, slotCount, width, height, channels, slotSize, reserved (ints),
+ * then the sequence number of the last completed frame (long) at offset 32.
+ * Slot: begin sequence, end sequence, capture time in epoch millis (longs), 8 bytes padding,
+ * then width * height * channels bytes of BGR pixels.
+ * A frame with sequence n goes into slot n % slotCount. Readers check that begin and end
+ * sequence match before and after copying, and use gaps in the sequence to count drops.
+ */
+public class FrameRingPublisher implements CameraService.FrameListener {
+    public static final File DEFAULT_FILE = new File(System.getProperty("java.io.tmpdir"), "tutorialgame_frames.bin");
+
+    private static final int MAGIC = 0x54474652; // "TGFR"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_HEADER_SIZE = 32;
+    private static final int WRITE_SEQUENCE_OFFSET = 32;
+    private static final int CHANNELS = 3;
+
+    private final CameraService cameraService;
+    private final File ringFile;
+    private final int slotCount;
+    private final int width;
+    private final int height;
+    private final int slotSize;
+
+    private RandomAccessFile file;
+    private MappedByteBuffer buffer;
+    private Mat[] slotMats; // Each wraps the pixel region of one slot
+    private volatile boolean publishing;
+    private long sequence;
+    private long framesPublished;
+
+    public FrameRingPublisher(CameraService cameraService) {
+        this(cameraService, DEFAULT_FILE, 4, 640, 480);
+    }
+
+    public FrameRingPublisher(CameraService cameraService, File ringFile, int slotCount, int width, int height) {
+        this.cameraService = cameraService;
+        this.ringFile = ringFile;
+        this.slotCount = slotCount;
+        this.width = width;
+        this.height = height;
+        this.slotSize = SLOT_HEADER_SIZE + width * height * CHANNELS;
+        mapFile(ringFile);
+    }
+
+    // The file is created up front so the hand engine finds it as soon as it is told to start
+    private void mapFile(File ringFile) {
+        try {
+            long size = HEADER_SIZE + (long) slotCount * slotSize;
+            file = new RandomAccessFile(ringFile, "rw");
+            file.setLength(size);
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, slotCount);
+            buffer.putInt(12, width);
+            buffer.putInt(16, height);
+            buffer.putInt(20, CHANNELS);
+            buffer.putInt(24, slotSize);
+            buffer.putInt(28, 0);
+            buffer.putLong(WRITE_SEQUENCE_OFFSET, 0);
+
+            slotMats = new Mat[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                ByteBuffer pixels = slotRegion(i).slice();
+                slotMats[i] = new Mat(height, width, CvType.CV_8UC3, pixels);
+            }
+            System.out.println("✅ Frame ring ready at " + ringFile.getAbsolutePath());
+
+        } catch (IOException e) {
+            System.err.println("❌ Could not create frame ring: " + e.getMessage());
+            buffer = null;
+        }
+    }
+
+    private ByteBuffer slotRegion(int slot) {
+        ByteBuffer region = buffer.duplicate();
+        int start = HEADER_SIZE + slot * slotSize + SLOT_HEADER_SIZE;
+        region.position(start);
+        region.limit(start + width * height * CHANNELS);
+        return region;
+    }
+
+    /** Starts or stops copying camera frames into the ring. */
+    public void setPublishing(boolean publishing) {
+        if (buffer == null || this.publishing == publishing) return;
+
+        this.publishing = publishing;
+        if (publishing) {
+            cameraService.addListener(this);
+        } else {
+            cameraService.removeListener(this);
+        }
+    }
+
+    public boolean isPublishing() {
+        return publishing;
+    }
+
+    public long getFramesPublished() {
+        return framesPublished;
+    }
+
+    // Capture thread
+    @Override
+    public void onFrame(SharedFrame frame) {
+        if (!publishing) return;
+
+        // Grab time on the wall clock, since the reader is another process; taken before the copy
+        long captureMillis = System.currentTimeMillis() - (System.nanoTime() - frame.getCaptureNanos()) / 1_000_000;
+        long seq = ++sequence;
+        int slot = (int) (seq % slotCount);
+        int slotStart = HEADER_SIZE + slot * slotSize;
+
+        // Begin sequence first; readers skip the slot until begin and end match again
+        buffer.putLong(slotStart, seq);
+        buffer.putLong(slotStart + 8, 0);
+
+        Mat source = frame.mat();
+        if (source.cols() == width && source.rows() == height && source.type() == CvType.CV_8UC3) {
+            source.copyTo(slotMats[slot]);
+        } else {
+            Imgproc.resize(source, slotMats[slot], new Size(width, height));
+        }
+
+        buffer.putLong(slotStart + 16, captureMillis);
+        buffer.putLong(slotStart + 8, seq);
+        buffer.putLong(WRITE_SEQUENCE_OFFSET, seq);
+        framesPublished++;
+    }
+
+    public void dispose() {
+        setPublishing(false); // Returns after any onFrame still running on the capture thread
+        if (slotMats != null) {
+            for (Mat mat : slotMats) {
+                mat.release();
+            }
+            slotMats = null;
+        }
+        try {
+            if (file != null) file.close();
+        } catch (IOException e) {
+            System.err.println("Error closing frame ring: " + e.getMessage());
+        }
+        buffer = null;
+        // Windows refuses while a mapping is still open (ours lives until GC, or the engine's)
+        if (ringFile.exists() && !ringFile.delete()) {
+            ringFile.deleteOnExit();
+        }
+    }
+}
@@ -1,27 +1,74 @@
 package com.tutorial.game.gameComponenets.controllers;
 
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.InetAddress;
-import java.net.SocketException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.tutorial.game.gameComponenets.gameObjects.Direction;
+import com.tutorial.game.gameComponenets.utils.LatencyTrace;
+import com.tutorial.game.gameComponenets.utils.SpscRing;
 
-public class HandSignController implements Runnable {
+public class HandSignController {
 
-    // Networking
-    private DatagramSocket socket;
-    private Thread listenerThread;
-    private boolean isRunning;
+    // Networking (datagrams arrive on the shared IPC thread)
+    private IpcEventLoop ipc;
+    private IpcEventLoop.DatagramEndpoint endpoint;
 
     // Ports must match Python script
     private final int LISTEN_PORT = 5005;
     private final int SEND_PORT = 5006;
     private final String PYTHON_IP = "127.0.0.1";
+    private final InetSocketAddress pythonAddress = new InetSocketAddress(PYTHON_IP, SEND_PORT);
+
+    // Wire format shared with hand_engine.py (SignMessage), big-endian: magic "HS"(2) version(1)
+    // gesture(1) sequence(4) captureMillis(8) confidence per 10000(2) captureToSendMillis(2) flags(2) reserved(2).
+    // Python sends when the sign changes and repeats it as a keepalive while it is held.
+    private static final short SIGN_MAGIC = 0x4853;
+    private static final int SIGN_VERSION = 1;
+    private static final int SIGN_MESSAGE_SIZE = 24;
+    private static final int FLAG_KEEPALIVE = 1;
+    // Gesture ids; 0 means no sign
+    private static final Direction[] SIGN_GESTURES = {null, Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    // Parsed on the IPC thread, drained by the game in update()
+    private static class SignMessage {
+        Direction direction; // null for "no sign"
+        boolean versioned; // False for a bare text sign from an older hand engine
+        long sequence;
+        long captureMillis;
+        int sendDelayMillis;
+        float confidence;
+        boolean keepalive;
+        long receivedAt;
+        long receivedNanos;
+    }
+    private final SpscRing<SignMessage> messages = new SpscRing<>(64, SignMessage::new);
+
+    // Transport statistics, game thread; reset for every cast
+    private long lastSequence = -1;
+    private int received;
+    private int keepalives;
+    private int dropped;
+    private int reordered;
+    private long lastArrival;
+    private long maxGapMillis;
+    private long transportSumMillis;
+    private long transportMaxMillis;
+    private long signToGameSumMillis;
+    private long signToGameMaxMillis;
+    private int timedMessages;
+    private float detectedConfidence;
+
+    // Capture to attack on screen, in System.nanoTime(); 0 when the engine sent no capture time
+    private final LatencyTrace latency = new LatencyTrace("Hand");
+    private long signCaptureNanos;
+    private long signDetectedNanos;
 
     // Game Logic
-    private String detectedSign;
-    private String lastReceivedDirection;
+    private Direction detectedDirection;
+    private Direction lastReceivedDirection;
     private float timeRemaining;
     private boolean isActive;
 
@@ -30,59 +77,155 @@ public class HandSignController implements Runnable {
 
     public HandSignController() {
         this.isActive = false;
-        this.detectedSign = "Waiting...";
 
         try {
-            socket = new DatagramSocket(LISTEN_PORT);
-            socket.setSoTimeout(100);
-
-            isRunning = true;
-            listenerThread = new Thread(this);
-            listenerThread.start();
+            ipc = IpcEventLoop.acquire();
+            endpoint = ipc.openDatagram(LISTEN_PORT, this::onDatagram);
             System.out.println("✅ Java Listener started on Port " + LISTEN_PORT);
 
-        } catch (SocketException e) {
+        } catch (IOException e) {
             System.err.println("❌ Could not bind port " + LISTEN_PORT);
         }
     }
 
     // --- SEND COMMANDS TO PYTHON ---
     private void sendCommandToPython(String command) {
-        try {
-            byte[] data = command.getBytes();
-            InetAddress address = InetAddress.getByName(PYTHON_IP);
-            DatagramPacket packet = new DatagramPacket(data, data.length, address, SEND_PORT);
-            socket.send(packet);
+        if (endpoint == null) return;
+        if (endpoint.send(ByteBuffer.wrap(command.getBytes(StandardCharsets.US_ASCII)), pythonAddress)) {
             System.out.println("📤 Sent to Python: " + command);
-        } catch (Exception e) {
-            System.err.println("Failed to send command to Python: " + e.getMessage());
         }
     }
 
-    // --- LISTENER THREAD ---
-    @Override
-    public void run() {
-        byte[] buffer = new byte[1024];
+    // --- IPC THREAD ---
+    private void onDatagram(ByteBuffer packet) {
+        long now = System.currentTimeMillis();
+        long nowNanos = System.nanoTime();
+        boolean versioned = packet.remaining() >= SIGN_MESSAGE_SIZE && packet.getShort(packet.position()) == SIGN_MAGIC;
 
-        while (isRunning && socket != null) {
-            try {
-                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
-                socket.receive(packet);
+        // Parse once here; the game only ever sees a Direction
+        Direction direction;
+        if (versioned) {
+            int start = packet.position();
+            if ((packet.get(start + 2) & 0xFF) != SIGN_VERSION) return; // Newer engine; ignore rather than misread
+            int gesture = packet.get(start + 3) & 0xFF;
+            if (gesture >= SIGN_GESTURES.length) return;
+            direction = SIGN_GESTURES[gesture];
+        } else {
+            direction = Direction.parse(packet);
+            if (direction == null) return;
+        }
 
-                String message = new String(packet.getData(), 0, packet.getLength()).trim();
-                lastReceivedDirection = message;
-                lastReceiveTime = System.currentTimeMillis();
+        SignMessage message = messages.claim();
+        if (message == null) return; // Game is not draining (not casting); the sign is stale anyway
+        message.direction = direction;
+        message.versioned = versioned;
+        message.receivedAt = now;
+        message.receivedNanos = nowNanos;
+        if (versioned) {
+            int start = packet.position();
+            message.sequence = packet.getInt(start + 4) & 0xFFFFFFFFL;
+            message.captureMillis = packet.getLong(start + 8);
+            message.confidence = (packet.getShort(start + 16) & 0xFFFF) / 10000f;
+            message.sendDelayMillis = packet.getShort(start + 18) & 0xFFFF;
+            message.keepalive = (packet.getShort(start + 20) & FLAG_KEEPALIVE) != 0;
+        }
+        messages.publish();
+    }
 
-            } catch (Exception e) {
-                // Timeout expected
+    // Game thread: take everything the IPC thread queued since the last frame
+    private void drainMessages() {
+        for (SignMessage message = messages.peek(); message != null; message = messages.peek()) {
+            if (!message.versioned || track(message)) {
+                // Keepalives repeat the sign; latency counts from its first capture
+                if (message.direction != lastReceivedDirection || message.receivedAt - lastReceiveTime >= TIMEOUT_MS) {
+                    stampSign(message);
+                }
+                lastReceivedDirection = message.direction;
+                lastReceiveTime = message.receivedAt;
+                detectedConfidence = message.versioned ? message.confidence : 1f;
             }
+            messages.release();
         }
     }
 
-    public void startSpellCasting(String requiredDirection) {
+    // Python stamps wall-clock millis; move them onto our nanoTime line through the receive time
+    private void stampSign(SignMessage message) {
+        if (!message.versioned || message.captureMillis <= 0) {
+            signCaptureNanos = 0;
+            signDetectedNanos = 0;
+            return;
+        }
+        signCaptureNanos = message.receivedNanos - (message.receivedAt - message.captureMillis) * 1_000_000L;
+        signDetectedNanos = signCaptureNanos + message.sendDelayMillis * 1_000_000L; // Python sends as soon as it has the sign
+    }
+
+    // Updates the statistics; returns false for a stale message that arrived out of order
+    private boolean track(SignMessage message) {
+        received++;
+        if (message.keepalive) keepalives++;
+        if (lastArrival != 0) {
+            maxGapMillis = Math.max(maxGapMillis, message.receivedAt - lastArrival);
+        }
+        lastArrival = message.receivedAt;
+
+        // Both clocks are the same machine's wall clock, so the differences are real latencies
+        long transport = message.receivedAt - (message.captureMillis + message.sendDelayMillis);
+        long signToGame = message.receivedAt - message.captureMillis;
+        if (transport >= 0 && signToGame >= 0) {
+            timedMessages++;
+            transportSumMillis += transport;
+            transportMaxMillis = Math.max(transportMaxMillis, transport);
+            signToGameSumMillis += signToGame;
+            signToGameMaxMillis = Math.max(signToGameMaxMillis, signToGame);
+        }
+
+        if (lastSequence >= 0 && message.sequence <= lastSequence) {
+            reordered++;
+            return false;
+        }
+        if (lastSequence >= 0 && message.sequence > lastSequence + 1) {
+            dropped += (int) (message.sequence - lastSequence - 1);
+        }
+        lastSequence = message.sequence;
+        return true;
+    }
+
+    private void resetTransportStats() {
+        lastSequence = -1;
+        received = 0;
+        keepalives = 0;
+        dropped = 0;
+        reordered = 0;
+        lastArrival = 0;
+        maxGapMillis = 0;
+        transportSumMillis = 0;
+        transportMaxMillis = 0;
+        signToGameSumMillis = 0;
+        signToGameMaxMillis = 0;
+        timedMessages = 0;
+        detectedConfidence = 0;
+    }
+
+    /** One line summary of the hand-sign link for the current or last cast. */
+    public String getTransportStats() {
+        int timed = Math.max(1, timedMessages);
+        return String.format("%d signs (%d keepalive), %d dropped, %d reordered, max gap %dms, "
+                + "transport %.1f/%dms, capture to game %.1f/%dms (mean/max)",
+            received, keepalives, dropped, reordered, maxGapMillis,
+            transportSumMillis / (double) timed, transportMaxMillis,
+            signToGameSumMillis / (double) timed, signToGameMaxMillis);
+    }
+
+    public void startSpellCasting(Direction requiredDirection) {
         isActive = true;
         timeRemaining = 15f;
-        detectedSign = "Show Hand!";
+        detectedDirection = null;
+
+        // Signs seen before this cast don't count; Python restarts its sequence on START
+        drainMessages();
+        lastReceivedDirection = null;
+        signCaptureNanos = 0;
+        resetTransportStats();
 
         // WAKE UP PYTHON
         sendCommandToPython("START");
@@ -95,6 +238,9 @@ public class HandSignController implements Runnable {
 
         // PUT PYTHON TO SLEEP
         sendCommandToPython("STOP");
+        if (received > 0) {
+            System.out.println("📊 Hand signs: " + getTransportStats());
+        }
     }
 
     public void update() {
@@ -106,28 +252,44 @@ public class HandSignController implements Runnable {
             return;
         }
 
+        drainMessages();
         if (System.currentTimeMillis() - lastReceiveTime < TIMEOUT_MS) {
-            detectedSign = lastReceivedDirection;
+            detectedDirection = lastReceivedDirection;
         } else {
-            detectedSign = null;
+            detectedDirection = null;
         }
     }
 
+    /** Game thread: the detected sign has just been acted on (the attack is spawned). */
+    public void markConsumed(long nanos) {
+        if (detectedDirection == null || signCaptureNanos == 0) return;
+        latency.consumed(signCaptureNanos, signDetectedNanos, nanos);
+        signCaptureNanos = 0; // One cast per sign
+    }
+
+    public LatencyTrace getLatency() {
+        return latency;
+    }
+
     public void draw(SpriteBatch batch, float x, float y, float width, float height) {
         // Camera feed is in Python window now, so we don't draw here.
     }
 
-    public String getDetectedDirection() {
-        if (detectedSign == null) return null;
-        return detectedSign;
+    public Direction getDetectedDirection() {
+        return detectedDirection;
+    }
+
+    /** Hand detection confidence (0..1) of the sign in use; 1 for signs from a text-only engine. */
+    public float getDetectedConfidence() {
+        return detectedDirection != null ? detectedConfidence : 0f;
     }
 
     public String getDetectedSign() {
-        return detectedSign != null ? detectedSign.toUpperCase() : "NONE";
+        return detectedDirection != null ? detectedDirection.name() : "NONE";
     }
 
     public boolean hasDetectedDirection() {
-        return detectedSign != null;
+        return detectedDirection != null;
     }
 
     public float getTimeRemaining() {
@@ -139,12 +301,14 @@ public class HandSignController implements Runnable {
     }
 
     public void dispose() {
-        isRunning = false;
         // Make sure Python stops if we close the game
         sendCommandToPython("STOP");
 
-        if (socket != null) {
-            socket.close();
+        if (endpoint != null) {
+            endpoint.close();
+            endpoint = null;
         }
+        IpcEventLoop.release(ipc);
+        ipc = null;
     }
 }
@@ -2,26 +2,42 @@ package com.tutorial.game.gameComponenets.controllers;
 
 import org.opencv.core.*;
 import org.opencv.objdetect.CascadeClassifier;
-import org.opencv.videoio.VideoCapture;
-import org.opencv.videoio.Videoio;
 import org.opencv.imgproc.Imgproc;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBufferByte;
-import java.io.File;
+import com.tutorial.game.gameComponenets.utils.CameraTexture;
+import com.tutorial.game.gameComponenets.utils.LatencyTrace;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class HeadMovementController {
-    private VideoCapture camera;
+    // Frames come from the shared camera; we never own the device
+    private final CameraService cameraService;
+    private final CameraService.FrameListener frameListener = this::onCameraFrame;
+    private final AtomicReference<SharedFrame> pendingCameraFrame = new AtomicReference<>();
+
+    // Owned by the tracking thread, never touched from the render thread
     private CascadeClassifier faceDetector;
-    private Mat currentFrame;
+    private volatile FaceTracker faceTracker;
     private Mat rgbaFrame;
-    private Point faceCenter;
-    private boolean isInitialized;
+    private Mat smallFrame;
+    private Mat grayFrame;
+
+    // Tracking thread
+    private Thread trackingThread;
+    private volatile boolean trackingRunning;
+    private volatile boolean isInitialized;
+
+    // Single-slot handoffs from the tracking thread to the render thread
+    private final AtomicReference<FaceSample> latestFace = new AtomicReference<>();
+    private final AtomicReference<Mat> pendingFeedFrame = new AtomicReference<>();
+    private final AtomicReference<Mat> spareFeedFrame = new AtomicReference<>();
+
+    // Capture to on-screen movement, game thread
+    private final LatencyTrace latency = new LatencyTrace("Head");
+    private FaceSample lastConsumedFace;
 
     // For camera feed texture
-    private Texture cameraTexture;
-    private boolean showCameraFeed = false; // Disabled by default for performance
+    private final CameraTexture cameraFeed = new CameraTexture();
+    private volatile boolean showCameraFeed = false; // Disabled by default for performance
 
     // Game world boundaries (adjust these to match your game)
     private final float GAME_MIN_X = 6f;
@@ -30,155 +46,228 @@ public class HeadMovementController {
     private final float GAME_MAX_Y = 26f;
 
     // Performance optimization
-    private long lastProcessTime = 0;
-    private final long PROCESS_INTERVAL_MS = 100; // Process every 100ms (10 FPS)
-    private int cameraWidth = 640;
-    private int cameraHeight = 480;
+    private final long PROCESS_INTERVAL_MS = 50; // Process every 50ms (20 FPS), affordable with ROI tracking
+    private volatile int cameraWidth = 640;
+    private volatile int cameraHeight = 480;
 
-    public HeadMovementController() {
-        this.faceCenter = new Point(0, 0);
+    public HeadMovementController(CameraService cameraService) {
+        this.cameraService = cameraService;
         this.isInitialized = false;
-        initializeCamera();
+        cameraService.start();
+        startTracking();
     }
 
-    private void initializeCamera() {
+    // Detection runs here so the render thread never waits on the camera or the detector
+    private void startTracking() {
+        trackingRunning = true;
+        cameraService.addListener(frameListener);
+        trackingThread = new Thread(this::trackingLoop, "HeadTracking");
+        trackingThread.setDaemon(true);
+        trackingThread.start();
+    }
+
+    // Waits for the thread to exit: it owns the Mats and the detector until then, and can be
+    // busy loading the cascade or in a detect well past one PROCESS_INTERVAL_MS
+    private void stopTracking() {
+        trackingRunning = false;
+        cameraService.removeListener(frameListener);
+        if (trackingThread == null) return;
+
+        boolean interrupted = false;
+        while (trackingThread.isAlive()) {
+            try {
+                trackingThread.join(1000);
+                if (trackingThread.isAlive()) {
+                    System.err.println("⚠️ Still waiting for head tracking to stop");
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        trackingThread = null;
+    }
+
+    private void trackingLoop() {
+        if (faceTracker == null && !initializeDetector()) return;
+
         try {
-            // Load OpenCV DLL (use your existing working path)
-            File dllFile = new File("libs\\opencv_java451.dll"); //use load instead of loadlibrary
-            System.load(dllFile.getAbsolutePath());
-            //System.out.println("✅ Loaded OpenCV from: " + dllFile);
-
-            // Initialize camera with low resolution for performance
-            camera = new VideoCapture(0);
-            if (!camera.isOpened()) {
-                System.err.println("❌ Camera not accessible");
-                return;
+            while (trackingRunning) {
+                long startTime = System.currentTimeMillis();
+                SharedFrame frame = pendingCameraFrame.getAndSet(null);
+                if (frame != null) {
+                    try {
+                        detectAndPublish(frame.mat(), frame.getCaptureNanos());
+                    } finally {
+                        frame.release();
+                    }
+                }
+
+                // Performance: Limit processing rate
+                long wait = PROCESS_INTERVAL_MS - (System.currentTimeMillis() - startTime);
+                if (wait > 0) {
+                    Thread.sleep(wait);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SharedFrame frame = pendingCameraFrame.getAndSet(null);
+            if (frame != null) {
+                frame.release();
             }
+        }
+    }
 
-            // Set low resolution for faster processing
-            camera.set(Videoio.CAP_PROP_FRAME_WIDTH, 640);
-            camera.set(Videoio.CAP_PROP_FRAME_HEIGHT, 480);
-            camera.set(Videoio.CAP_PROP_FPS, 15);
+    // Capture thread: keep only the newest frame for the tracking thread
+    private void onCameraFrame(SharedFrame frame) {
+        SharedFrame stale = pendingCameraFrame.getAndSet(frame.retain());
+        if (stale != null) {
+            stale.release();
+        }
+    }
 
-            // Get actual camera dimensions
-            cameraWidth = (int) camera.get(Videoio.CAP_PROP_FRAME_WIDTH);
-            cameraHeight = (int) camera.get(Videoio.CAP_PROP_FRAME_HEIGHT);
-            System.out.println("✅ Camera: " + cameraWidth + "x" + cameraHeight + " @ 15 FPS");
+    private boolean initializeDetector() {
+        try {
+            CameraService.loadNativeLibrary();
 
             // Initialize face detector
             faceDetector = new CascadeClassifier();
             boolean cascadeLoaded = faceDetector.load("haarcascade_frontalface_alt.xml");
             if (!cascadeLoaded) {
                 System.err.println("❌ Could not load face detector");
-                return;
+                return false;
             }
+            // Search around the last face, full scan every 20 frames or on a miss
+            faceTracker = new FaceTracker(faceDetector, 1.1, 2,
+                new Size(50, 50), new Size(200, 200), 20);
 
             // Initialize frames
-            currentFrame = new Mat();
             rgbaFrame = new Mat();
-
-            // Test camera
-            if (camera.read(currentFrame) && !currentFrame.empty()) {
-                isInitialized = true;
-                // Set initial face position to center
-                faceCenter = new Point(cameraWidth / 2.0, cameraHeight / 2.0);
-                System.out.println("✅ Head Movement Controller initialized");
-            }
+            smallFrame = new Mat();
+            grayFrame = new Mat();
+            return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error initializing camera: " + e.getMessage());
+            System.err.println("❌ Error initializing face detector: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
     }
 
+    // Called on the render thread; never blocks on the camera or the detector
     public void updateHeadPosition() {
-        if (!isInitialized || camera == null) return;
+        if (!isInitialized) return;
 
-        // Performance: Limit processing rate
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastProcessTime < PROCESS_INTERVAL_MS) {
-            return; // Skip this frame
+        // Update camera texture only if feed is enabled
+        Mat feedFrame = pendingFeedFrame.getAndSet(null);
+        if (feedFrame != null) {
+            if (showCameraFeed) {
+                updateCameraTexture(feedFrame);
+            }
+            recycleFeedFrame(feedFrame);
         }
-        lastProcessTime = currentTime;
+    }
 
+    // The shared frame is read-only; overlays go on our own copy
+    private void detectAndPublish(Mat frame, long captureNanos) {
         try {
-            // Read frame from camera
-            if (camera.read(currentFrame) && !currentFrame.empty()) {
+            cameraWidth = frame.cols();
+            cameraHeight = frame.rows();
+            if (!isInitialized) {
+                // Set initial face position to center
+                if (latestFace.get() == null) {
+                    latestFace.set(new FaceSample(cameraWidth / 2.0, cameraHeight / 2.0, 0, 0));
+                }
+                isInitialized = true;
+                System.out.println("✅ Head Movement Controller initialized");
+            }
+
+            boolean feed = showCameraFeed;
+            if (feed) {
                 //do NOT CONVERT TO  RGB
-                currentFrame.copyTo(rgbaFrame);
+                frame.copyTo(rgbaFrame);
+            }
 
-                // Detect face (simplified for performance)
-                detectFaceSimple();
+            // Detect face (simplified for performance)
+            detectFaceSimple(frame, feed, captureNanos);
 
-                // Update camera texture only if feed is enabled
-                if (showCameraFeed) {
-                    updateCameraTexture();
-                }
+            // Hand the frame to the render thread only if feed is enabled
+            if (feed) {
+                publishFeedFrame();
             }
         } catch (Exception e) {
             System.err.println("Error updating head position: " + e.getMessage());
         }
     }
 
-    private void detectFaceSimple() {
-        MatOfRect faceDetections = new MatOfRect();
-        Mat grayFrame = new Mat();
+    private void publishFeedFrame() {
+        Mat frame = spareFeedFrame.getAndSet(null);
+        if (frame == null) {
+            frame = new Mat();
+        }
+        rgbaFrame.copyTo(frame);
 
-        // Use smaller frame for faster processing
-        Mat smallFrame = new Mat();
-        Imgproc.resize(currentFrame, smallFrame, new Size(320, 240));
+        // Replace whatever the render thread has not picked up yet
+        Mat stale = pendingFeedFrame.getAndSet(frame);
+        if (stale != null) {
+            recycleFeedFrame(stale);
+        }
+    }
 
-        // Convert to grayscale
-        Imgproc.cvtColor(smallFrame, grayFrame, Imgproc.COLOR_BGR2GRAY);
-        Imgproc.equalizeHist(grayFrame, grayFrame);
+    private void recycleFeedFrame(Mat frame) {
+        if (!spareFeedFrame.compareAndSet(null, frame)) {
+            frame.release();
+        }
+    }
 
-        // Fast face detection with minimal accuracy
-        faceDetector.detectMultiScale(grayFrame, faceDetections, 1.1, 2, 0,
-            new Size(50, 50), new Size(200, 200));
+    private void detectFaceSimple(Mat frame, boolean drawOverlay, long captureNanos) {
+        // Smaller equalized grayscale frame for faster processing
+        FaceTracker.prepare(frame, smallFrame, grayFrame);
 
-        Rect[] facesArray = faceDetections.toArray();
-        if (facesArray.length > 0) {
-            // Use the first detected face
-            Rect face = facesArray[0];
+        // Fast face detection with minimal accuracy, only around the last face when possible
+        Rect face = faceTracker.detect(grayFrame);
+        if (face != null) {
 
             // Scale coordinates back to original camera size
             double scaleX = (double) cameraWidth / smallFrame.width();
             double scaleY = (double) cameraHeight / smallFrame.height();
 
             // Calculate face center in camera coordinates
-            faceCenter = new Point(
+            latestFace.set(new FaceSample(
                 (face.x + face.width / 2.0) * scaleX,
-                (face.y + face.height / 2.0) * scaleY
-            );
+                (face.y + face.height / 2.0) * scaleY,
+                captureNanos, System.nanoTime()
+            ));
 
             // Draw overlay only if camera feed is enabled
-            if (showCameraFeed) {
+            if (drawOverlay) {
                 // Scale rectangle coordinates
                 double rectX = face.x * scaleX;
                 double rectY = face.y * scaleY;
                 double rectWidth = face.width * scaleX;
                 double rectHeight = face.height * scaleY;
 
-                Imgproc.rectangle(currentFrame,
+                Imgproc.rectangle(rgbaFrame,
                     new Point(rectX, rectY),
                     new Point(rectX + rectWidth, rectY + rectHeight),
                     new Scalar(0, 255, 0), 2);
             }
         }
         // If no face detected, keep the last known position
-
-        grayFrame.release();
-        smallFrame.release();
     }
 
     // Get absolute X position in game world (6 to 26)
     public float getAbsoluteX() {
-        if (!isInitialized) {
+        FaceSample face = latestFace.get();
+        if (!isInitialized || face == null) {
             return (GAME_MIN_X + GAME_MAX_X) / 2f; // Return center if not initialized
         }
 
         // Map head X position (0 to cameraWidth) to game X (GAME_MIN_X to GAME_MAX_X)
-        double normalizedX = 1 - (faceCenter.x / cameraWidth); //added an inversion to make it mirrored
+        double normalizedX = 1 - (face.x / cameraWidth); //added an inversion to make it mirrored
         float gameX = GAME_MIN_X + (float)(normalizedX * (GAME_MAX_X - GAME_MIN_X));
 
         // Added to make it easier to get to the edges of the arena
@@ -190,13 +279,14 @@ public class HeadMovementController {
 
     // Get absolute Y position in game world (6 to 26)
     public float getAbsoluteY() {
-        if (!isInitialized) {
+        FaceSample face = latestFace.get();
+        if (!isInitialized || face == null) {
             return (GAME_MIN_Y + GAME_MAX_Y) / 2f; // Return center if not initialized
         }
 
         // Map head Y position (0 to cameraHeight) to game Y (GAME_MIN_Y to GAME_MAX_Y)
         // Note: Camera Y is top-down, game Y is bottom-up, so we invert
-        double invertedY = 1.0 - (faceCenter.y / cameraHeight);
+        double invertedY = 1.0 - (face.y / cameraHeight);
         float gameY = GAME_MIN_Y + (float)(invertedY * (GAME_MAX_Y - GAME_MIN_Y));
 
         // Added to make it easier to get to the edges of the arena
@@ -206,58 +296,28 @@ public class HeadMovementController {
         return Math.max(GAME_MIN_Y, Math.min(GAME_MAX_Y, gameY));
     }
 
-    private void updateCameraTexture() {
-        if (rgbaFrame.empty()) return;
-
-        // Create a mirrored version for display only
-        Mat mirroredFrame = new Mat();
-        Core.flip(rgbaFrame, mirroredFrame, 1);  // 1 = horizontal flip
-
-        BufferedImage bufferedImage = matToBufferedImage(mirroredFrame);
-        mirroredFrame.release();  // Clean up
-
-        if (cameraTexture != null) {
-            cameraTexture.dispose();
-        }
-        cameraTexture = bufferedImageToTexture(bufferedImage);
+    private void updateCameraTexture(Mat frame) {
+        // Mirrored for display only
+        cameraFeed.update(frame, true);
     }
 
-    private BufferedImage matToBufferedImage(Mat mat) {
-        int type = BufferedImage.TYPE_3BYTE_BGR;
-        int bufferSize = mat.channels() * mat.cols() * mat.rows();
-        byte[] buffer = new byte[bufferSize];
-        mat.get(0, 0, buffer);
-
-        BufferedImage image = new BufferedImage(mat.cols(), mat.rows(), type);
-        final byte[] targetPixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
-        System.arraycopy(buffer, 0, targetPixels, 0, buffer.length);
-
-        return image;
+    /**
+     * Game thread, once per step that moves the player by head position: records the latency
+     * of the face position it used, the first time that position is used.
+     */
+    public void markConsumed(long nanos) {
+        FaceSample face = latestFace.get();
+        if (face == null || face == lastConsumedFace || face.captureNanos == 0) return;
+        lastConsumedFace = face;
+        latency.consumed(face.captureNanos, face.detectedNanos, nanos);
     }
 
-    private Texture bufferedImageToTexture(BufferedImage image) {
-        int width = image.getWidth();
-        int height = image.getHeight();
-
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGB888);
-
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                int rgb = image.getRGB(x, y);
-                int r = (rgb >> 16) & 0xFF;
-                int g = (rgb >> 8) & 0xFF;
-                int b = rgb & 0xFF;
-
-                pixmap.setColor(r / 255f, g / 255f, b / 255f, 1f);
-                pixmap.drawPixel(x,y);
-            }
-        }
-
-        return new Texture(pixmap);
+    public LatencyTrace getLatency() {
+        return latency;
     }
 
     public Texture getCameraTexture() {
-        return cameraTexture;
+        return cameraFeed.getTexture();
     }
 
     public void toggleCameraFeed() {
@@ -269,36 +329,63 @@ public class HeadMovementController {
         return showCameraFeed;
     }
 
+    // Detector hit/miss counters, null until the camera is up
+    public FaceTracker getFaceTracker() {
+        return faceTracker;
+    }
+
     public boolean isHeadTrackingEnabled() {
         return isInitialized;
     }
 
+    // Pausing only unsubscribes from the shared camera; the device stays open
     public void resumeCamera() {
-        if (camera == null || !camera.isOpened()) {
-            initializeCamera();
-            System.out.println("Head tracking camera resumed");
+        if (trackingThread == null) {
+            startTracking();
+            System.out.println("Head tracking resumed");
         }
     }
 
     public void pauseCamera() {
-        if (camera != null && camera.isOpened()) {
-            camera.release();
-            System.out.println("Head tracking camera paused");
+        if (trackingThread != null) {
+            stopTracking();
+            System.out.println("Head tracking paused");
         }
     }
 
     public void dispose() {
-        if (camera != null) {
-            camera.release();
-        }
-        if (cameraTexture != null) {
-            cameraTexture.dispose();
-        }
-        if (currentFrame != null) {
-            currentFrame.release();
+        stopTracking(); // Returns once the tracking thread is gone, so its Mats are free to release
+        cameraFeed.dispose();
+        if (faceTracker != null) {
+            faceTracker.dispose();
         }
         if (rgbaFrame != null) {
             rgbaFrame.release();
+            smallFrame.release();
+            grayFrame.release();
+        }
+        Mat frame = pendingFeedFrame.getAndSet(null);
+        if (frame != null) {
+            frame.release();
+        }
+        frame = spareFeedFrame.getAndSet(null);
+        if (frame != null) {
+            frame.release();
+        }
+    }
+
+    // Immutable face position published by the tracking thread
+    private static final class FaceSample {
+        final double x;
+        final double y;
+        final long captureNanos; // 0 for the starting position, which no frame produced
+        final long detectedNanos;
+
+        FaceSample(double x, double y, long captureNanos, long detectedNanos) {
+            this.x = x;
+            this.y = y;
+            this.captureNanos = captureNanos;
+            this.detectedNanos = detectedNanos;
         }
     }
 }
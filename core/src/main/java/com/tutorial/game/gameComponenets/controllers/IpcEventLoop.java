@@ -0,0 +1,351 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One selector thread for every channel to the Python side (hand-sign UDP, hand tracker TCP).
+ * Channels are non-blocking and read into direct buffers that are reused for the life of
+ * the channel; handlers run on this thread, decode in place and hand results to the game
+ * through lock-free structures, so nothing blocks and nothing polls on a timeout.
+ * Shared by reference count: {@link #acquire()} starts the thread for the first user and
+ * {@link #release(IpcEventLoop)} stops it, closing every channel, when the last one leaves.
+ */
+public class IpcEventLoop implements Runnable {
+    /** Called on the IO thread with one datagram, position to limit. Valid only during the call. */
+    public interface DatagramHandler {
+        void onDatagram(ByteBuffer packet);
+    }
+
+    /** Stream callbacks, on the IO thread. */
+    public interface StreamHandler {
+        /**
+         * Bytes received so far, in read mode. Consume whole messages by advancing the position;
+         * whatever is left is kept and handed over again with the next bytes.
+         */
+        void onData(ByteBuffer data) throws IOException;
+
+        void onClosed(String reason);
+    }
+
+    private static final int DATAGRAM_BUFFER_SIZE = 2048;
+    private static final int DATAGRAM_RECEIVE_BUFFER = 1 << 20;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final long SHUTDOWN_WAIT_MS = 500;
+
+    private static IpcEventLoop shared;
+    private static int users;
+
+    private final Selector selector;
+    private final Thread thread;
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    // One receive buffer for every datagram channel; datagrams are handled one at a time
+    private final ByteBuffer datagramBuffer = ByteBuffer.allocateDirect(DATAGRAM_BUFFER_SIZE);
+
+    private IpcEventLoop() throws IOException {
+        selector = Selector.open();
+        thread = new Thread(this, "Python IPC");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Shared loop, started on first use. Every acquire needs a matching {@link #release}. */
+    public static synchronized IpcEventLoop acquire() throws IOException {
+        if (shared == null) {
+            shared = new IpcEventLoop();
+            System.out.println("✅ Python IPC thread started");
+        }
+        users++;
+        return shared;
+    }
+
+    public static void release(IpcEventLoop loop) {
+        synchronized (IpcEventLoop.class) {
+            if (loop == null || loop != shared) return;
+            if (--users > 0) return;
+            shared = null;
+        }
+        loop.shutdown(); // Waits for the thread, so outside the lock
+    }
+
+    // A loop that died on its own must not be handed out again; the next acquire starts a new one
+    private static synchronized void forget(IpcEventLoop loop) {
+        if (shared == loop) {
+            shared = null;
+            users = 0;
+        }
+    }
+
+    /** Binds a UDP port (all interfaces) and delivers every datagram to handler. */
+    public DatagramEndpoint openDatagram(int port, DatagramHandler handler) throws IOException {
+        DatagramChannel channel = DatagramChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, DATAGRAM_RECEIVE_BUFFER); // Absorb bursts while the loop wakes
+            channel.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        DatagramEndpoint endpoint = new DatagramEndpoint(channel, handler);
+        register(channel, SelectionKey.OP_READ, endpoint);
+        return endpoint;
+    }
+
+    /** Connects (blocking, so failures surface here) and then streams received bytes to handler. */
+    public StreamEndpoint connect(String host, int port, StreamHandler handler) throws IOException {
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+        try {
+            channel.socket().setTcpNoDelay(true);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        StreamEndpoint endpoint = new StreamEndpoint(channel, handler);
+        register(channel, SelectionKey.OP_READ, endpoint);
+        return endpoint;
+    }
+
+    // Channels may only be registered while the selector is not blocked, so do it on the loop
+    private void register(SelectableChannel channel, int ops, Object endpoint) {
+        submit(() -> {
+            try {
+                channel.register(selector, ops, endpoint);
+            } catch (IOException e) {
+                System.err.println("❌ Could not register IPC channel: " + e.getMessage());
+                closeQuietly(channel);
+            }
+        });
+    }
+
+    private void submit(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select(); // Sleeps until a channel is ready or a task is submitted
+                runTasks();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    Object endpoint = key.attachment();
+                    if (endpoint instanceof DatagramEndpoint) {
+                        readDatagrams((DatagramEndpoint) endpoint);
+                    } else if (endpoint instanceof StreamEndpoint) {
+                        StreamEndpoint stream = (StreamEndpoint) endpoint;
+                        if (key.isWritable()) {
+                            stream.flush(key);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            stream.read();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Python IPC loop stopped: " + e);
+        } finally {
+            running = false;
+            forget(this);
+            closeAll();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void readDatagrams(DatagramEndpoint endpoint) {
+        try {
+            // Drain everything queued on the socket before going back to select
+            while (true) {
+                datagramBuffer.clear();
+                if (endpoint.channel.receive(datagramBuffer) == null) break;
+                datagramBuffer.flip();
+                endpoint.handler.onDatagram(datagramBuffer);
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ UDP receive failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Bad datagram: " + e.getMessage());
+        }
+    }
+
+    private void shutdown() {
+        running = false;
+        selector.wakeup();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(SHUTDOWN_WAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void closeAll() {
+        runTasks(); // Late closes and registrations still release their channels
+        try {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key.channel());
+                Object endpoint = key.attachment();
+                if (endpoint instanceof StreamEndpoint) {
+                    ((StreamEndpoint) endpoint).closed("IPC loop stopped");
+                }
+            }
+            selector.close();
+        } catch (IOException | ClosedSelectorException e) {
+            // Already closed
+        }
+        System.out.println("Python IPC thread stopped");
+    }
+
+    private static void closeQuietly(SelectableChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+    }
+
+    /** A bound UDP port. Sending is safe from any thread. */
+    public class DatagramEndpoint {
+        final DatagramChannel channel;
+        final DatagramHandler handler;
+
+        DatagramEndpoint(DatagramChannel channel, DatagramHandler handler) {
+            this.channel = channel;
+            this.handler = handler;
+        }
+
+        /** Sends from the bound port. Returns false if the datagram could not be sent. */
+        public boolean send(ByteBuffer data, SocketAddress target) {
+            try {
+                return channel.send(data, target) > 0;
+            } catch (IOException e) {
+                System.err.println("Failed to send datagram: " + e.getMessage());
+                return false;
+            }
+        }
+
+        public void close() {
+            submit(() -> closeQuietly(channel));
+            if (!running) closeQuietly(channel);
+        }
+    }
+
+    /** A connected TCP stream. Writes are queued to the IO thread, so they never block the caller. */
+    public class StreamEndpoint {
+        final SocketChannel channel;
+        final StreamHandler handler;
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE);
+        private final ArrayDeque<ByteBuffer> pendingWrites = new ArrayDeque<>(); // IO thread only
+        private volatile boolean open = true;
+
+        StreamEndpoint(SocketChannel channel, StreamHandler handler) {
+            this.channel = channel;
+            this.handler = handler;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        public void write(byte[] data) {
+            final ByteBuffer buffer = ByteBuffer.wrap(data.clone());
+            submit(() -> {
+                if (!open) return;
+                pendingWrites.add(buffer);
+                SelectionKey key = channel.keyFor(selector);
+                if (key != null && key.isValid()) {
+                    flush(key);
+                }
+            });
+        }
+
+        void flush(SelectionKey key) {
+            try {
+                while (!pendingWrites.isEmpty()) {
+                    ByteBuffer head = pendingWrites.peek();
+                    channel.write(head);
+                    if (head.hasRemaining()) break; // Socket buffer full; wait for OP_WRITE
+                    pendingWrites.poll();
+                }
+                int ops = SelectionKey.OP_READ | (pendingWrites.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+                key.interestOps(ops);
+            } catch (IOException e) {
+                fail("write failed: " + e.getMessage());
+            }
+        }
+
+        void read() {
+            try {
+                int n = channel.read(readBuffer);
+                if (n < 0) {
+                    fail("closed by peer");
+                    return;
+                }
+                readBuffer.flip();
+                handler.onData(readBuffer);
+                if (readBuffer.position() == 0 && readBuffer.limit() == readBuffer.capacity()) {
+                    fail("message larger than " + STREAM_BUFFER_SIZE + " bytes");
+                    return;
+                }
+                readBuffer.compact();
+            } catch (IOException e) {
+                fail(e.getMessage());
+            } catch (RuntimeException e) {
+                // A handler that cannot parse the stream must not take the loop down with it
+                fail("bad data: " + e);
+            }
+        }
+
+        private void fail(String reason) {
+            closeQuietly(channel);
+            closed(reason);
+        }
+
+        void closed(String reason) {
+            if (!open) return;
+            open = false;
+            handler.onClosed(reason);
+        }
+
+        public void close() {
+            submit(() -> {
+                closeQuietly(channel);
+                open = false;
+            });
+            if (!running) {
+                closeQuietly(channel);
+                open = false;
+            }
+        }
+    }
+}
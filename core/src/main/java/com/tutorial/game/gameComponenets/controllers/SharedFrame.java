@@ -0,0 +1,66 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import org.opencv.core.Mat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reference-counted camera frame handed out by {@link CameraService}.
+ * Consumers must treat the Mat as read-only, call {@link #retain()} to keep the frame past
+ * the callback that delivered it, and {@link #release()} once done. The Mat goes back to
+ * the service's pool when the last reference is released.
+ */
+public final class SharedFrame {
+    private final CameraService owner;
+    private final Mat mat = new Mat();
+    private final AtomicInteger refCount = new AtomicInteger();
+    private long sequence;
+    private long captureNanos;
+
+    SharedFrame(CameraService owner) {
+        this.owner = owner;
+    }
+
+    // Called by the capture thread once the Mat has been filled
+    void publish(long sequence, long captureNanos) {
+        this.sequence = sequence;
+        this.captureNanos = captureNanos;
+        refCount.set(1);
+    }
+
+    public Mat mat() {
+        return mat;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getCaptureNanos() {
+        return captureNanos;
+    }
+
+    public SharedFrame retain() {
+        refCount.incrementAndGet();
+        return this;
+    }
+
+    // Retains only if the frame has not already gone back to the pool
+    boolean tryRetain() {
+        while (true) {
+            int count = refCount.get();
+            if (count <= 0) return false;
+            if (refCount.compareAndSet(count, count + 1)) return true;
+        }
+    }
+
+    public void release() {
+        if (refCount.decrementAndGet() == 0) {
+            owner.recycle(this);
+        }
+    }
+
+    void dispose() {
+        mat.release();
+    }
+}
@@ -0,0 +1,325 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+/**
+ * Single-stroke shape recognizer in the style of the $1 unistroke recognizer.
+ * Points are fed in as they arrive with {@link #addPoint}, keeping a running path length,
+ * so {@link #finish()} only has to resample the stroke to {@value #SAMPLE_COUNT} points,
+ * rotate it to its indicative angle, scale it to a reference square and compare it to the
+ * templates with a golden-section search over the remaining rotation. Strokes that end far
+ * from where they started are only compared to the open templates, so a U or most of a
+ * circle does not cast a square or a circle.
+ * All buffers are allocated up front; recognizing a stroke does not allocate.
+ * Not thread-safe; the hand tracker's reader thread owns its instance.
+ */
+public class SpellRecognizer {
+    public static final int SPELL_NONE = -1;
+    public static final int SPELL_SQUARE = 0;
+    public static final int SPELL_CIRCLE = 1;
+    public static final int SPELL_TRIANGLE = 2;
+    public static final int SPELL_CROSS = 3;
+
+    private static final String[] NAMES = {"square", "circle", "triangle", "cross"};
+
+    static final int SAMPLE_COUNT = 64;
+    private static final int MIN_POINTS = 8;
+    private static final int MAX_POINTS = 1024;
+    private static final double REFERENCE_SIZE = 250.0;
+    private static final double HALF_DIAGONAL = 0.5 * Math.sqrt(2 * REFERENCE_SIZE * REFERENCE_SIZE);
+    private static final double ANGLE_RANGE = Math.toRadians(45);
+    private static final double ANGLE_PRECISION = Math.toRadians(2);
+    private static final double PHI = 0.5 * (Math.sqrt(5) - 1);
+    private static final double DEFAULT_MIN_SCORE = 0.78;
+    // Closed spells only match strokes that end within this fraction of the reference diagonal of their start
+    private static final double MAX_CLOSING_GAP = 0.3;
+
+    // Raw stroke. Once full, every second point is dropped and only every stride-th new point kept
+    private final double[] rawX = new double[MAX_POINTS];
+    private final double[] rawY = new double[MAX_POINTS];
+    private int rawCount;
+    private int stride = 1;
+    private int skipped;
+    private double pathLength;
+
+    // Normalized candidate
+    private final double[] sampleX = new double[SAMPLE_COUNT];
+    private final double[] sampleY = new double[SAMPLE_COUNT];
+
+    // Templates, normalized the same way; several per spell for both drawing directions and starting corners
+    private final double[][] templateX;
+    private final double[][] templateY;
+    private final int[] templateSpell;
+    private final boolean[] templateClosed;
+
+    private final double minScore;
+    private double lastScore;
+
+    public SpellRecognizer() {
+        this(DEFAULT_MIN_SCORE);
+    }
+
+    public SpellRecognizer(double minScore) {
+        this.minScore = minScore;
+
+        double[][][] shapes = {
+            {{0, 0}, {1, 0}, {1, 1}, {0, 1}, {0, 0}},         // Square
+            circle(32),                                         // Circle
+            {{0.5, 0}, {1, 1}, {0, 1}, {0.5, 0}},              // Triangle
+            {{0, 0}, {1, 1}, {1, 0}, {0, 1}}                   // Cross drawn in one stroke
+        };
+        int[] spells = {SPELL_SQUARE, SPELL_CIRCLE, SPELL_TRIANGLE, SPELL_CROSS};
+        // Corners a stroke may start from. A square started at another corner is the same square
+        // turned a quarter, which the rotation to the indicative angle absorbs; a triangle started
+        // at a base corner is not a turned triangle, so it gets a template per corner
+        int[] starts = {1, 1, 3, 1};
+        boolean[] closed = {true, true, true, false};
+
+        int templates = 0;
+        for (int start : starts) {
+            templates += start * 2;
+        }
+        templateX = new double[templates][SAMPLE_COUNT];
+        templateY = new double[templates][SAMPLE_COUNT];
+        templateSpell = new int[templates];
+        templateClosed = new boolean[templates];
+        int t = 0;
+        for (int s = 0; s < shapes.length; s++) {
+            double[][] shape = shapes[s];
+            int corners = shape.length - 1; // Closed shapes repeat their first point at the end
+            for (int start = 0; start < starts[s]; start++) {
+                for (int direction = 0; direction < 2; direction++) {
+                    begin();
+                    for (int i = 0; i < shape.length; i++) {
+                        double[] vertex;
+                        if (starts[s] == 1) {
+                            vertex = direction == 0 ? shape[i] : shape[shape.length - 1 - i];
+                        } else {
+                            int k = direction == 0 ? start + i : start - i;
+                            vertex = shape[((k % corners) + corners) % corners];
+                        }
+                        addPoint(vertex[0] * 100, vertex[1] * 100);
+                    }
+                    normalize(templateX[t], templateY[t]);
+                    templateSpell[t] = spells[s];
+                    templateClosed[t] = closed[s];
+                    t++;
+                }
+            }
+        }
+        begin();
+    }
+
+    private static double[][] circle(int segments) {
+        double[][] points = new double[segments + 1][];
+        for (int i = 0; i <= segments; i++) {
+            double angle = 2 * Math.PI * i / segments;
+            points[i] = new double[]{0.5 + 0.5 * Math.sin(angle), 0.5 - 0.5 * Math.cos(angle)};
+        }
+        return points;
+    }
+
+    public static String getName(int spell) {
+        return spell >= 0 && spell < NAMES.length ? NAMES[spell] : "none";
+    }
+
+    /** Starts a new stroke, discarding the current one. */
+    public void begin() {
+        rawCount = 0;
+        stride = 1;
+        skipped = 0;
+        pathLength = 0;
+    }
+
+    public void addPoint(double x, double y) {
+        if (rawCount > 0 && ++skipped < stride) return;
+        skipped = 0;
+
+        if (rawCount == MAX_POINTS) {
+            decimate();
+        }
+        if (rawCount > 0) {
+            pathLength += Math.hypot(x - rawX[rawCount - 1], y - rawY[rawCount - 1]);
+        }
+        rawX[rawCount] = x;
+        rawY[rawCount] = y;
+        rawCount++;
+    }
+
+    // Halves the stored points so very long strokes still fit; the path length is recomputed once
+    private void decimate() {
+        int kept = 0;
+        for (int i = 0; i < rawCount; i += 2) {
+            rawX[kept] = rawX[i];
+            rawY[kept] = rawY[i];
+            kept++;
+        }
+        rawCount = kept;
+        stride *= 2;
+
+        pathLength = 0;
+        for (int i = 1; i < rawCount; i++) {
+            pathLength += Math.hypot(rawX[i] - rawX[i - 1], rawY[i] - rawY[i - 1]);
+        }
+    }
+
+    public int getPointCount() {
+        return rawCount;
+    }
+
+    /** Recognizes the current stroke. Returns a SPELL_ constant, or SPELL_NONE below the score threshold. */
+    public int finish() {
+        lastScore = 0;
+        if (rawCount < MIN_POINTS || !normalize(sampleX, sampleY)) return SPELL_NONE;
+
+        // A U is a square with a side missing and an open arc most of a circle; the gap tells them apart
+        double gap = Math.hypot(sampleX[SAMPLE_COUNT - 1] - sampleX[0], sampleY[SAMPLE_COUNT - 1] - sampleY[0]);
+        boolean closed = gap <= MAX_CLOSING_GAP * 2 * HALF_DIAGONAL;
+
+        double bestDistance = Double.MAX_VALUE;
+        int bestSpell = SPELL_NONE;
+        for (int t = 0; t < templateSpell.length; t++) {
+            if (templateClosed[t] && !closed) continue;
+            double distance = distanceAtBestAngle(templateX[t], templateY[t]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestSpell = templateSpell[t];
+            }
+        }
+
+        lastScore = 1.0 - bestDistance / HALF_DIAGONAL;
+        return lastScore >= minScore ? bestSpell : SPELL_NONE;
+    }
+
+    /** Match score of the last {@link #finish()} call, 1.0 being a perfect match. */
+    public double getLastScore() {
+        return lastScore;
+    }
+
+    // Resample, rotate, scale and translate the raw stroke into the given arrays
+    private boolean normalize(double[] outX, double[] outY) {
+        if (rawCount < 2 || pathLength <= 0) return false;
+
+        resample(outX, outY);
+
+        double cx = 0, cy = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            cx += outX[i];
+            cy += outY[i];
+        }
+        cx /= SAMPLE_COUNT;
+        cy /= SAMPLE_COUNT;
+
+        // Rotate so the centroid-to-first-point angle is zero
+        double angle = Math.atan2(cy - outY[0], cx - outX[0]);
+        double cos = Math.cos(-angle);
+        double sin = Math.sin(-angle);
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            double dx = outX[i] - cx;
+            double dy = outY[i] - cy;
+            double x = dx * cos - dy * sin;
+            double y = dx * sin + dy * cos;
+            outX[i] = x;
+            outY[i] = y;
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+
+        // Scale to the reference square, then move the centroid back to the origin
+        double scaleX = REFERENCE_SIZE / Math.max(maxX - minX, 1e-6);
+        double scaleY = REFERENCE_SIZE / Math.max(maxY - minY, 1e-6);
+        cx = 0;
+        cy = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            outX[i] *= scaleX;
+            outY[i] *= scaleY;
+            cx += outX[i];
+            cy += outY[i];
+        }
+        cx /= SAMPLE_COUNT;
+        cy /= SAMPLE_COUNT;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            outX[i] -= cx;
+            outY[i] -= cy;
+        }
+        return true;
+    }
+
+    // Walks the raw path and emits SAMPLE_COUNT points spaced evenly along it
+    private void resample(double[] outX, double[] outY) {
+        double interval = pathLength / (SAMPLE_COUNT - 1);
+        double accumulated = 0;
+        double prevX = rawX[0];
+        double prevY = rawY[0];
+        outX[0] = prevX;
+        outY[0] = prevY;
+        int count = 1;
+
+        int i = 1;
+        while (i < rawCount && count < SAMPLE_COUNT) {
+            double segment = Math.hypot(rawX[i] - prevX, rawY[i] - prevY);
+            if (segment > 0 && accumulated + segment >= interval) {
+                double t = (interval - accumulated) / segment;
+                prevX += t * (rawX[i] - prevX);
+                prevY += t * (rawY[i] - prevY);
+                outX[count] = prevX;
+                outY[count] = prevY;
+                count++;
+                accumulated = 0;
+            } else {
+                accumulated += segment;
+                prevX = rawX[i];
+                prevY = rawY[i];
+                i++;
+            }
+        }
+
+        // Rounding can leave the last sample or two unfilled
+        while (count < SAMPLE_COUNT) {
+            outX[count] = rawX[rawCount - 1];
+            outY[count] = rawY[rawCount - 1];
+            count++;
+        }
+    }
+
+    private double distanceAtBestAngle(double[] tx, double[] ty) {
+        double a = -ANGLE_RANGE;
+        double b = ANGLE_RANGE;
+        double x1 = PHI * a + (1 - PHI) * b;
+        double f1 = distanceAtAngle(tx, ty, x1);
+        double x2 = (1 - PHI) * a + PHI * b;
+        double f2 = distanceAtAngle(tx, ty, x2);
+
+        while (Math.abs(b - a) > ANGLE_PRECISION) {
+            if (f1 < f2) {
+                b = x2;
+                x2 = x1;
+                f2 = f1;
+                x1 = PHI * a + (1 - PHI) * b;
+                f1 = distanceAtAngle(tx, ty, x1);
+            } else {
+                a = x1;
+                x1 = x2;
+                f1 = f2;
+                x2 = (1 - PHI) * a + PHI * b;
+                f2 = distanceAtAngle(tx, ty, x2);
+            }
+        }
+        return Math.min(f1, f2);
+    }
+
+    // Mean point distance between the candidate rotated by angle and a template
+    private double distanceAtAngle(double[] tx, double[] ty, double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double total = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            double x = sampleX[i] * cos - sampleY[i] * sin;
+            double y = sampleX[i] * sin + sampleY[i] * cos;
+            total += Math.hypot(x - tx[i], y - ty[i]);
+        }
+        return total / SAMPLE_COUNT;
+    }
+}
@@ -0,0 +1,62 @@
+package com.tutorial.game.gameComponenets.gameObjects;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The four attack directions, with their unit vector and the sprite rotation that faces
+ * that way (sprites are drawn facing down). Text from the network is parsed into a
+ * Direction once, so gameplay code only compares and multiplies.
+ */
+public enum Direction {
+    UP("up", 0, 1, 180),
+    DOWN("down", 0, -1, 0),
+    LEFT("left", -1, 0, 270),
+    RIGHT("right", 1, 0, 90);
+
+    public static final Direction[] VALUES = values();
+
+    public final String id;
+    public final float dx;
+    public final float dy;
+    public final float rotation;
+    private final byte[] idBytes;
+
+    Direction(String id, float dx, float dy, float rotation) {
+        this.id = id;
+        this.dx = dx;
+        this.dy = dy;
+        this.rotation = rotation;
+        this.idBytes = id.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses "up", "down", "left" or "right" from the ASCII bytes between the buffer's position
+     * and limit, ignoring leading and trailing whitespace and control bytes, without building a
+     * String. Returns null for anything else. The buffer's position is left unchanged.
+     */
+    public static Direction parse(ByteBuffer data) {
+        int start = data.position();
+        int end = data.limit();
+        // Trim whitespace the sender may have added
+        while (start < end && data.get(start) <= ' ') {
+            start++;
+        }
+        while (end > start && data.get(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+
+        for (Direction direction : VALUES) {
+            byte[] id = direction.idBytes;
+            if (id.length != length) continue;
+
+            boolean match = true;
+            for (int i = 0; i < length && match; i++) {
+                match = data.get(start + i) == id[i];
+            }
+            if (match) return direction;
+        }
+        return null;
+    }
+}
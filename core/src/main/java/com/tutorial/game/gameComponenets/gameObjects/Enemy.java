@@ -1,69 +1,85 @@
 package com.tutorial.game.gameComponenets.gameObjects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.tutorial.game.gameComponenets.screens.GameScreen;
-
-import static com.badlogic.gdx.math.MathUtils.random;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
 public class Enemy {
     float summitPercentage = 0.5f;
 
-    Texture enemyTxr;
+    TextureRegion enemyTxr;
     Sprite enemySprite;
     boolean verticalWalking;
-    float goal = newGoal();
-    float speed = (float) (0.06+Math.random()*0.02);
+    final RandomXS128 random; // The world's, so a seed replays the same moves
+    float goal;
+    float speed;
     float movementStopTimer;
-    String direction;
+    Direction direction;
+    float prevX;
+    float prevY;
+    boolean dead;
 
-    public Enemy(int x){
-        enemyTxr = new Texture("enemy.png");
-        enemySprite = new Sprite(enemyTxr);
+    public Enemy(GameWorld world, int x){
+        random = world.getRandom();
+        goal = newGoal();
+        speed = 0.06f + random.nextFloat() * 0.02f;
+        enemyTxr = world.assets.getRegion(GameAssets.ENEMY);
+        enemySprite = world.assets.createSprite(GameAssets.ENEMY);
         enemySprite.setSize(2.6f,2.6f);
         enemySprite.setOrigin(1.3f,1.3f);
         switch (x){
             case 0:
                 enemySprite.setPosition(2-0.3f,15);
-                enemySprite.setRotation(90);
+                direction = Direction.RIGHT;
                 verticalWalking = true;
-                direction = "right";
                 break;
             case 1:
                 enemySprite.setPosition(15,28-0.3f);
-                enemySprite.setRotation(0);
+                direction = Direction.DOWN;
                 verticalWalking = false;
-                direction = "down";
                 break;
             case 2:
                 enemySprite.setPosition(15,2-0.3f);
-                enemySprite.setRotation(180);
+                direction = Direction.UP;
                 verticalWalking = false;
-                direction = "up";
                 break;
             case 3:
                 enemySprite.setPosition(28-0.3f,15);
-                enemySprite.setRotation(270);
+                direction = Direction.LEFT;
                 verticalWalking = true;
-                direction = "left";
                 break;
         }
+        enemySprite.setRotation(direction.rotation); // Face the arena
+        savePosition();
+    }
+
+    // Called before each step so draw can interpolate
+    public void savePosition(){
+        prevX = enemySprite.getX();
+        prevY = enemySprite.getY();
     }
-    public void draw(SpriteBatch batch){
+
+    public void draw(SpriteBatch batch, float alpha){
+        float x = enemySprite.getX();
+        float y = enemySprite.getY();
+        enemySprite.setPosition(MathUtils.lerp(prevX, x, alpha), MathUtils.lerp(prevY, y, alpha));
         enemySprite.draw(batch);
+        enemySprite.setPosition(x, y);
     }
 
-    public void update(GameScreen gs){
+    // One fixed step; speed is in units per step
+    public void update(GameWorld world, float delta){
         if (movementStopTimer == 0) {
             if (verticalWalking) {
                 if (goal <= enemySprite.getY() + speed / 2 && goal >= enemySprite.getY() - speed / 2) {
                     goal = newGoal();
                     speed = newSpeed();
                     movementStopTimer = 1f;
-                    if(random() <= summitPercentage) {
-                        gs.addIceAttack(enemySprite.getX(), enemySprite.getY(), direction);
+                    if(random.nextFloat() <= summitPercentage) {
+                        world.addIceAttack(enemySprite.getX(), enemySprite.getY(), direction);
                     }
                 }
                 if (enemySprite.getY() < goal) {
@@ -76,8 +92,8 @@ public class Enemy {
                     goal = newGoal();
                     speed = newSpeed();
                     movementStopTimer = 1.5f;
-                    if(random() <= summitPercentage) {
-                        gs.addIceAttack(enemySprite.getX(), enemySprite.getY(), direction);
+                    if(random.nextFloat() <= summitPercentage) {
+                        world.addIceAttack(enemySprite.getX(), enemySprite.getY(), direction);
                     }
                 }
                 if (enemySprite.getX() < goal) {
@@ -88,7 +104,7 @@ public class Enemy {
 
             }
         } else if (movementStopTimer >= 0) {
-            movementStopTimer -= Gdx.graphics.getDeltaTime();
+            movementStopTimer -= delta;
         } else {
             movementStopTimer = 0;
         }
@@ -96,11 +112,20 @@ public class Enemy {
     }
 
     private float newGoal(){
-        return (float) (6.0 + Math.random() * 18.0);
+        return 6f + random.nextFloat() * 18f;
     }
 
     private float newSpeed(){
-        return (float) (0.03 + Math.random() * 0.02);
+        return 0.03f + random.nextFloat() * 0.02f;
+    }
+
+    // Marks the enemy for removal at the end of the tick
+    public void kill(){
+        dead = true;
+    }
+
+    public boolean isDead(){
+        return dead;
     }
 
     public Sprite getSprite(){
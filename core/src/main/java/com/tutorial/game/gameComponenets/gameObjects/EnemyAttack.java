@@ -1,135 +1,43 @@
 package com.tutorial.game.gameComponenets.gameObjects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.Array;
-import com.tutorial.game.gameComponenets.screens.GameScreen;
-
-import static com.badlogic.gdx.math.MathUtils.random;
-
-public class EnemyAttack {
-    Array<Sprite> attackSprites;
-    float midX = 0.3f;
-    float midY = 0.3f;
-    float offsetCaster = 2;
-    float offsetCollective;
-    String direction;
-    GameScreen gameScreen;
-    float speed = 0.08f;
-    float harmlessCounter;
-
-    public EnemyAttack(GameScreen gs, float x, float y, String direction){
-        harmlessCounter = 1;
-        gameScreen=gs;
-        this.direction=direction;
-        attackSprites = new Array<>();
-        x += midX;
-        y += midY;
-
-        for (int i = 0; i < 4; i++){
-            attackSprites.add(new Sprite(new Texture("fire_swirl.png")));
-            attackSprites.get(i).setSize(2, 2);
-            attackSprites.get(i).setOrigin(1, 1);
-        }
-        offsetCollective = attackSprites.get(0).getWidth()/2;
-        switch(direction){
-            case "right":
-                attackSprites.get(1).setPosition(x+offsetCaster,y+3*offsetCollective);
-                attackSprites.get(2).setPosition(x+offsetCaster,y-3*offsetCollective);
-                attackSprites.get(0).setPosition(x+offsetCaster,y+offsetCollective);
-                attackSprites.get(3).setPosition(x+offsetCaster,y-offsetCollective);
-                break;
-            case "left":
-                attackSprites.get(1).setPosition(x-offsetCaster,y+3*offsetCollective);
-                attackSprites.get(2).setPosition(x-offsetCaster,y-3*offsetCollective);
-                attackSprites.get(0).setPosition(x-offsetCaster,y+offsetCollective);
-                attackSprites.get(3).setPosition(x-offsetCaster,y-offsetCollective);
-                break;
-            case "up":
-                attackSprites.get(1).setPosition(x-3*offsetCollective,y+offsetCaster);
-                attackSprites.get(2).setPosition(x+3*offsetCollective,y+offsetCaster);
-                attackSprites.get(0).setPosition(x-offsetCollective,y+offsetCaster);
-                attackSprites.get(3).setPosition(x+offsetCollective,y+offsetCaster);
-                break;
-            case "down":
-                attackSprites.get(1).setPosition(x-3*offsetCollective,y-offsetCaster);
-                attackSprites.get(2).setPosition(x+3*offsetCollective,y-offsetCaster);
-                attackSprites.get(0).setPosition(x-offsetCollective,y-offsetCaster);
-                attackSprites.get(3).setPosition(x+offsetCollective,y-offsetCaster);
-                break;
-        }
-        attackSprites.get(1).setRotation(-90);
-        attackSprites.get(1).setRotation(180);
-        attackSprites.get(3).setRotation(90);
-    }
-
-    public void update(){
-        if (harmlessCounter <= 0){
-            float playerX = gameScreen.getPlayerSprite().getX();
-            float playerY = gameScreen.getPlayerSprite().getY();
-            float playerThic = gameScreen.getPlayerSprite().getHeight();
-            boolean collisionFound = false;
-
-            for(Sprite sprite : attackSprites){
-                if (!collisionFound) {
-                    float spriteX = sprite.getX();
-                    float spriteY = sprite.getY();
-                    float spriteThic = sprite.getHeight();
-
-                    if(playerX <= spriteX+spriteThic && playerX+playerThic >= spriteX && playerY <= spriteY+spriteThic && playerY+playerThic >= spriteY){
-                        gameScreen.removeIceAttack(this);
-                        gameScreen.takeDamage();
-                        collisionFound = true;
-                    }
-                }
-            }
-
-            if (!collisionFound){
-                float x = attackSprites.get(0).getX();
-                float y = attackSprites.get(0).getY();
-
-                if(x <= 1 || y <= 1 || x >= 30-1 || y >= 30-1){
-                    gameScreen.removeIceAttack(this);
-                }else{
-                    switch (direction){
-                        case "right":
-                            for (Sprite sprite : attackSprites) {
-                                sprite.translateX(speed);
-                            }
-                            break;
-                        case "left":
-                            for (Sprite sprite : attackSprites){
-                                sprite.translateX(-speed);
-                            }
-                            break;
-                        case "up":
-                            for (Sprite sprite : attackSprites){
-                                sprite.translateY(speed);
-                            }
-                            break;
-                        case "down":
-                            for (Sprite sprite : attackSprites){
-                                sprite.translateY(-speed);
-                            }
-                            break;
-                    }
-                }
-                for (Sprite sprite : attackSprites){
-                    sprite.rotate(10);
-                }
-            }
-        }else{
-            harmlessCounter -= Gdx.graphics.getDeltaTime();
-        }
-
+// Fires a volley of four fire swirls into a ProjectileSystem; the system does the rest
+public final class EnemyAttack {
+    public static final float SIZE = 2;
+    public static final float SPEED = 0.08f;  // Per update
+    public static final float SPIN = 10;      // Degrees per update
+    public static final float HARMLESS_TIME = 1;
+
+    static final float MID_X = 0.3f;
+    static final float MID_Y = 0.3f;
+    static final float OFFSET_CASTER = 2;
+    static final float OFFSET_COLLECTIVE = SIZE / 2;
+
+    // The four swirls sit side by side across the direction of travel; the first leads the volley
+    private static final float[] ACROSS_OFFSETS = {1, 3, -3, -1};
+    private static final float[] START_ROTATIONS = {0, 180, 0, 90};
+
+    private EnemyAttack() {
     }
 
-    public void draw(SpriteBatch batch){
-        for (Sprite sprite : attackSprites) {
-            sprite.draw(batch);
+    /** Spawns a volley in front of the caster at (x, y). Returns the volley id, or -1 without a direction. */
+    public static int spawn(ProjectileSystem projectiles, float x, float y, Direction direction){
+        if (direction == null) return -1;
+
+        x += MID_X + direction.dx * OFFSET_CASTER;
+        y += MID_Y + direction.dy * OFFSET_CASTER;
+        float vx = direction.dx * SPEED;
+        float vy = direction.dy * SPEED;
+        // The swirls spread along the other axis, towards -x for up and down volleys like they always have
+        float acrossX = -Math.abs(direction.dy);
+        float acrossY = Math.abs(direction.dx);
+
+        int volleyId = projectiles.newVolley();
+        for (int i = 0; i < ACROSS_OFFSETS.length; i++) {
+            float offset = ACROSS_OFFSETS[i] * OFFSET_COLLECTIVE;
+            projectiles.spawn(x + acrossX * offset, y + acrossY * offset, vx, vy,
+                START_ROTATIONS[i], SPIN, SIZE, HARMLESS_TIME, volleyId);
         }
+        return volleyId;
     }
 }
 
@@ -0,0 +1,364 @@
+package com.tutorial.game.gameComponenets.gameObjects;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+import com.tutorial.game.gameComponenets.utils.SpatialHash;
+import com.tutorial.game.gameComponenets.utils.TrackedPool;
+
+/**
+ * The gameplay simulation behind GameScreen: player position, enemies, scrolls and
+ * attacks, stepped with an explicit delta and no GL, input or camera.
+ * Every random draw comes from one seeded {@link RandomXS128}, so the same seed and the
+ * same sequence of steps and player moves replay the same game. GameScreen moves the
+ * player and draws the world; the headless runner steps it on its own.
+ */
+public class GameWorld {
+    // Broad phase over the 30x30 arena, rebuilt every tick. Ids are indices into enemies,
+    // scrolls and enemyProjectiles respectively
+    public static final int LAYER_ENEMY = 1;
+    public static final int LAYER_SCROLL = 1 << 1;
+    public static final int LAYER_ENEMY_PROJECTILE = 1 << 2;
+
+    public static final int MAX_LIVES = 3;
+    public static final int MAX_COLLECTED_SCROLLS = 4;
+    static final int MAX_SCROLLS = 2;
+
+    final GameAssets assets;
+    final RandomXS128 random;
+    private final long seed;
+    private final JobSystem jobs; // May be null: everything runs on the calling thread
+
+    float survivalTime;
+    long ticks;
+    float difficultyUpTimer = 7f;
+    int scoreAdd;
+    int lives = MAX_LIVES;
+
+    Sprite playerSprite;
+    float playerPrevX;
+    float playerPrevY;
+
+    float enemyTimer;
+    float enemySpawnTime = 7f;
+    float MAX_scrollSpawnTimer = 9f;
+    float scrollSpawnTimer = 10f;
+
+    Enemy[] enemies;
+    Array<Scroll> scrolls;
+    Array<Direction> collectedScrolls; // Directions of the scrolls the player holds, oldest first
+    ProjectileSystem enemyProjectiles; // Every enemy fire swirl on the field
+
+    final SpatialHash collisionGrid = new SpatialHash(0, 0, 30, 30, 2);
+    final IntArray collisionHits = new IntArray();
+    Array<PlayerAttack> playerAttacks; // Unordered, so removal swaps the last attack in
+    TrackedPool<PlayerAttack> playerAttackPool;
+
+    public GameWorld(final GameAssets assets, long seed, JobSystem jobs) {
+        this.assets = assets;
+        this.seed = seed;
+        this.random = new RandomXS128(seed);
+        this.jobs = jobs;
+
+        playerSprite = assets.createSprite(GameAssets.PLAYER);
+        playerSprite.setSize(2.4f, 2.4f);
+        playerSprite.setPosition(15, 15);
+        playerPrevX = playerSprite.getX();
+        playerPrevY = playerSprite.getY();
+        enemies = new Enemy[4];
+        scrolls = new Array<>();
+        collectedScrolls = new Array<>();
+        enemyProjectiles = new ProjectileSystem(256);
+        enemyProjectiles.setBounds(1, 1, 30 - 1, 30 - 1);
+        playerAttacks = new Array<>(false, 16);
+        playerAttackPool = new TrackedPool<PlayerAttack>("Player attacks", 4, 64) {
+            @Override
+            protected PlayerAttack createObject() {
+                return new PlayerAttack(assets);
+            }
+        };
+        playerAttackPool.fill(2);
+    }
+
+    // Called before the player moves and the world steps, so draw can interpolate
+    public void savePreviousPositions() {
+        playerPrevX = playerSprite.getX();
+        playerPrevY = playerSprite.getY();
+        for (Enemy enemy : enemies) {
+            if (enemy != null) {
+                enemy.savePosition();
+            }
+        }
+        for (int i = 0; i < playerAttacks.size; i++) {
+            playerAttacks.get(i).savePosition();
+        }
+    }
+
+    /** Advances the simulation by delta seconds. Does nothing once the game is over. */
+    public void step(float delta) {
+        if (isGameOver()) return;
+        ticks++;
+        survivalTime += delta;
+
+        float playerWidth = playerSprite.getWidth();
+        float playerHeight = playerSprite.getHeight();
+        playerSprite.setX(MathUtils.clamp(playerSprite.getX(), 6, 26 - playerWidth));
+        playerSprite.setY(MathUtils.clamp(playerSprite.getY(), 6, 26 - playerHeight));
+
+        if (difficultyUpTimer < 0){
+            difficultyUpTimer = 7f;
+            for (Enemy enemy : enemies) {
+                if (enemy != null) {
+                    enemy.higherAttackPercentage();
+                }
+            }
+        } else {
+            difficultyUpTimer -= delta;
+        }
+
+        enemyTimer += delta;
+        if (enemyTimer > enemySpawnTime) {
+            createEnemy();
+        }
+        if (scrolls.size < MAX_SCROLLS) {
+            scrollSpawnTimer -= delta;
+        }
+        if (scrollSpawnTimer <= 0){
+            scrolls.add(new Scroll(this));
+            scrollSpawnTimer = MAX_scrollSpawnTimer;
+        }
+
+        // Projectiles move independently, so that pass may run across the job threads;
+        // everything below resolves in a fixed order on this thread
+        enemyProjectiles.update(delta, jobs);
+
+        for (Enemy enemy : enemies){
+            if(enemy != null) {
+                enemy.update(this, delta);
+            }
+        }
+
+        // Everything has moved; register this tick's boxes, then resolve overlaps through the grid
+        rebuildCollisionGrid();
+
+        IntArray hits = queryCollisions(playerSprite.getX(), playerSprite.getY(), playerWidth, playerHeight, LAYER_ENEMY_PROJECTILE);
+        if (hits.size > 0) {
+            // One volley costs one heart, however many of its swirls touch the player
+            enemyProjectiles.removeVolley(enemyProjectiles.getVolley(hits.first()));
+            takeDamage();
+        }
+
+        // Indexed so a nested loop elsewhere can't invalidate libGDX's shared iterator
+        for (int i = 0; i < playerAttacks.size; i++) {
+            PlayerAttack playerAttack = playerAttacks.get(i);
+            if (!playerAttack.isDead()) {
+                playerAttack.update();
+            }
+        }
+
+        hits = queryCollisions(playerSprite.getX(), playerSprite.getY(), playerWidth, playerHeight, LAYER_SCROLL);
+        hits.sort();
+        for (int h = hits.size - 1; h >= 0 && collectedScrolls.size < MAX_COLLECTED_SCROLLS; h--) { // Highest index first
+            scrolls.removeIndex(hits.get(h));
+            addNewScrollCollected();
+        }
+
+        removeDead();
+    }
+
+    // Removals during the tick only mark entities dead; they leave the collections here,
+    // once, so nothing is skipped or shifted while the update loops run
+    private void removeDead() {
+        for (int i = 0; i < enemies.length; i++) {
+            if (enemies[i] != null && enemies[i].isDead()) {
+                enemies[i] = null;
+            }
+        }
+        for (int i = playerAttacks.size - 1; i >= 0; i--) {
+            PlayerAttack playerAttack = playerAttacks.get(i);
+            if (playerAttack.isDead()) {
+                playerAttacks.removeIndex(i); // Swaps the last attack in, which was already checked
+                playerAttackPool.free(playerAttack);
+            }
+        }
+    }
+
+    private void rebuildCollisionGrid() {
+        collisionGrid.clear();
+        for (int i = 0; i < enemies.length; i++) {
+            if (enemies[i] != null) {
+                Sprite spr = enemies[i].getSprite();
+                collisionGrid.insert(spr.getX(), spr.getY(), spr.getWidth(), spr.getHeight(), i, LAYER_ENEMY);
+            }
+        }
+        for (int i = 0; i < scrolls.size; i++) {
+            Sprite spr = scrolls.get(i).getScrollSprite();
+            collisionGrid.insert(spr.getX(), spr.getY(), spr.getWidth(), spr.getHeight(), i, LAYER_SCROLL);
+        }
+        enemyProjectiles.insertInto(collisionGrid, LAYER_ENEMY_PROJECTILE);
+    }
+
+    /** Ids of this tick's entities on the given layers overlapping the box. The array is reused by the next call. */
+    public IntArray queryCollisions(float x, float y, float width, float height, int layerMask) {
+        collisionGrid.query(x, y, width, height, layerMask, collisionHits);
+        return collisionHits;
+    }
+
+    private void createEnemy() {
+        for (int i = 0; i < enemies.length; i++){
+            if (enemies[i] == null) {
+                enemies[i] = new Enemy(this, i);
+                enemyTimer = 0;
+                break;
+            }
+        }
+    }
+
+    private void addNewScrollCollected() {
+        scoreAdd += 100;
+        collectedScrolls.add(Direction.VALUES[random.nextInt(4)]);
+    }
+
+    void takeDamage(){
+        if (lives > 0) {
+            lives--;
+        }
+    }
+
+    public void addIceAttack(float x, float y, Direction direction){
+        EnemyAttack.spawn(enemyProjectiles, x, y, direction);
+    }
+
+    public void addPlayerAttack(Direction direction){
+        playerAttacks.add(playerAttackPool.obtain().init(this, direction));
+    }
+
+    // Deferred: the attack is freed at the end of the tick, so a second remove is harmless
+    public void removePlayerAttack(PlayerAttack identity){
+        identity.kill();
+    }
+
+    // Deferred like removePlayerAttack; the slot frees up at the end of the tick
+    public void removeEnemy(Enemy identity){
+        if (!identity.isDead()) {
+            identity.kill();
+            enemyTimer = 0;
+            scoreAdd += 300;
+        }
+    }
+
+    /** Takes the collected scroll at index out of the inventory and returns its direction. */
+    public Direction useScroll(int index){
+        return collectedScrolls.removeIndex(index);
+    }
+
+    public boolean isGameOver(){
+        return lives <= 0;
+    }
+
+    public int getScore(){
+        return (int) (survivalTime*100) + scoreAdd;
+    }
+
+    /**
+     * Order-sensitive hash of the simulation state, for comparing two runs. Equal runs give
+     * equal checksums; any divergence in positions, timers or counts changes it.
+     */
+    public long checksum(){
+        long h = seed;
+        h = 31 * h + ticks;
+        h = 31 * h + Float.floatToIntBits(survivalTime);
+        h = 31 * h + scoreAdd;
+        h = 31 * h + lives;
+        h = 31 * h + Float.floatToIntBits(playerSprite.getX());
+        h = 31 * h + Float.floatToIntBits(playerSprite.getY());
+        for (Enemy enemy : enemies) {
+            if (enemy == null) {
+                h = 31 * h + 1;
+                continue;
+            }
+            h = 31 * h + Float.floatToIntBits(enemy.getSprite().getX());
+            h = 31 * h + Float.floatToIntBits(enemy.getSprite().getY());
+        }
+        for (int i = 0; i < scrolls.size; i++) {
+            h = 31 * h + Float.floatToIntBits(scrolls.get(i).getScrollSprite().getX());
+        }
+        for (int i = 0; i < collectedScrolls.size; i++) {
+            h = 31 * h + collectedScrolls.get(i).ordinal();
+        }
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            h = 31 * h + Float.floatToIntBits(enemyProjectiles.getX(i));
+            h = 31 * h + Float.floatToIntBits(enemyProjectiles.getY(i));
+        }
+        for (int i = 0; i < playerAttacks.size; i++) {
+            Sprite spr = playerAttacks.get(i).attackSprite;
+            h = 31 * h + Float.floatToIntBits(spr.getX());
+            h = 31 * h + Float.floatToIntBits(spr.getY());
+        }
+        return h;
+    }
+
+    public RandomXS128 getRandom(){
+        return random;
+    }
+
+    public Sprite getPlayerSprite(){
+        return playerSprite;
+    }
+
+    public float getPlayerPrevX(){
+        return playerPrevX;
+    }
+
+    public float getPlayerPrevY(){
+        return playerPrevY;
+    }
+
+    public Enemy[] getEnemies(){
+        return enemies;
+    }
+
+    public Array<Scroll> getScrolls(){
+        return scrolls;
+    }
+
+    public Array<Direction> getCollectedScrolls(){
+        return collectedScrolls;
+    }
+
+    public ProjectileSystem getEnemyProjectiles(){
+        return enemyProjectiles;
+    }
+
+    public Array<PlayerAttack> getPlayerAttacks(){
+        return playerAttacks;
+    }
+
+    public TrackedPool<PlayerAttack> getPlayerAttackPool(){
+        return playerAttackPool;
+    }
+
+    public float getSurvivalTime(){
+        return survivalTime;
+    }
+
+    public int getScoreAdd(){
+        return scoreAdd;
+    }
+
+    public int getLives(){
+        return lives;
+    }
+
+    public long getTicks(){
+        return ticks;
+    }
+
+    public long getSeed(){
+        return seed;
+    }
+}
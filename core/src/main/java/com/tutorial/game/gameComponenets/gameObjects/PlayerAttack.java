@@ -1,64 +1,93 @@
 package com.tutorial.game.gameComponenets.gameObjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
-public class PlayerAttack {
-    String direction;
+// Pooled by GameWorld
+public class PlayerAttack implements Pool.Poolable {
+    Direction direction;
     Sprite attackSprite;
     float speed = 0.4f;
-    GameScreen gameScreen;
+    GameWorld world;
+    float prevX;
+    float prevY;
+    float prevRotation;
+    boolean dead;
 
-    public PlayerAttack(GameScreen gs, String direction) {
-        this.direction = direction;
-        this.gameScreen = gs;
-        attackSprite = new Sprite(new Texture("ice_orb.png"));
+    public PlayerAttack(GameAssets assets) {
+        attackSprite = assets.createSprite(GameAssets.ICE_ORB);
         attackSprite.setSize(2, 2);
         attackSprite.setOrigin(1, 1);
-        attackSprite.setPosition(gameScreen.getPlayerSprite().getX(), gameScreen.getPlayerSprite().getY());
+    }
+
+    public PlayerAttack init(GameWorld world, Direction direction) {
+        this.direction = direction;
+        this.world = world;
+        dead = false;
+        attackSprite.setRotation(0);
+        attackSprite.setPosition(world.getPlayerSprite().getX(), world.getPlayerSprite().getY());
+        savePosition();
+        return this;
+    }
+
+    // Called before each step so draw can interpolate
+    public void savePosition() {
+        prevX = attackSprite.getX();
+        prevY = attackSprite.getY();
+        prevRotation = attackSprite.getRotation();
+    }
+
+    @Override
+    public void reset() {
+        world = null;
+        direction = null;
     }
 
     public void update(){
         float x = attackSprite.getX();
         float y = attackSprite.getY();
 
-        Enemy[] enemies = gameScreen.getEnemies();
+        Enemy[] enemies = world.getEnemies();
+        IntArray hits = world.queryCollisions(x, y, attackSprite.getWidth(), attackSprite.getHeight(), GameWorld.LAYER_ENEMY);
 
-        for(Enemy enemy : enemies){
-            if(enemy != null){
-                Sprite eSpr = enemy.getSprite();
-                if(x<=eSpr.getX()+eSpr.getWidth() && x+attackSprite.getWidth()>=eSpr.getX() && y<=eSpr.getY()+eSpr.getHeight() &&y+attackSprite.getHeight()>=eSpr.getY()){
-                    gameScreen.removeEnemy(enemy);
-                    gameScreen.removePlayerAttack(this);
-                    break;
-                }
+        for (int h = 0; h < hits.size; h++) {
+            Enemy enemy = enemies[hits.get(h)];
+            if(enemy != null && !enemy.isDead()){ // May have been hit by another attack this tick
+                world.removeEnemy(enemy);
+                world.removePlayerAttack(this);
+                return;
             }
         }
 
         if(x <= 1 || y <= 1 || x >= 30-1 || y >= 30-1){
-            gameScreen.removePlayerAttack(this);
+            world.removePlayerAttack(this);
         }else{
-            switch (direction){
-                case "right":
-                        attackSprite.translateX(speed);
-                    break;
-                case "left":
-                        attackSprite.translateX(-speed);
-                    break;
-                case "up":
-                        attackSprite.translateY(speed);
-                    break;
-                case "down":
-                        attackSprite.translateY(-speed);
-                    break;
-            }
+            attackSprite.translate(direction.dx * speed, direction.dy * speed);
         }
         attackSprite.rotate(10);
         }
 
-    public void draw(SpriteBatch batch){
+    // Marks the attack for removal; GameWorld frees it at the end of the tick
+    public void kill() {
+        dead = true;
+    }
+
+    public boolean isDead() {
+        return dead;
+    }
+
+    public void draw(SpriteBatch batch, float alpha){
+        float x = attackSprite.getX();
+        float y = attackSprite.getY();
+        float rotation = attackSprite.getRotation();
+        attackSprite.setPosition(MathUtils.lerp(prevX, x, alpha), MathUtils.lerp(prevY, y, alpha));
+        attackSprite.setRotation(MathUtils.lerp(prevRotation, rotation, alpha));
         attackSprite.draw(batch);
+        attackSprite.setPosition(x, y);
+        attackSprite.setRotation(rotation);
     }
 }
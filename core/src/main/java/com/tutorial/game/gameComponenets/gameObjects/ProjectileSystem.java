@@ -0,0 +1,286 @@
+package com.tutorial.game.gameComponenets.gameObjects;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+import com.tutorial.game.gameComponenets.utils.SpatialHash;
+
+import java.util.Arrays;
+
+/**
+ * Projectiles stored as parallel primitive arrays (struct of arrays) instead of one object
+ * per projectile. Updates, hit tests and drawing are straight loops over the arrays, and
+ * removal swaps the last projectile into the freed slot, so order is not preserved.
+ * Velocity and spin are applied once per update, like the rest of the game logic; the
+ * harmless time counts down in seconds, and a projectile neither moves nor hits until it
+ * reaches zero. Projectiles fired together share a volley id so they can be removed as one.
+ * The first projectile spawned into a volley leads it: once the leader touches the bounds
+ * the whole volley is culled, and until then the others fly on even past the bounds.
+ * The position and rotation before the last update are kept so drawing can interpolate.
+ * An update first moves every projectile, optionally split across a {@link JobSystem},
+ * then culls in one sequential pass, so the result is the same for any thread count.
+ * Not thread-safe.
+ */
+public class ProjectileSystem {
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] rotation;
+    private float[] prevX;
+    private float[] prevY;
+    private float[] prevRotation;
+    private float[] spin;
+    private float[] size;
+    private float[] harmless;
+    private int[] volley;
+    private boolean[] leader;
+    private boolean[] culled; // Leaders out of bounds, set by the move pass and consumed by the cull pass
+    private int count;
+    private int nextVolley;
+    private int lastSpawnedVolley = -1;
+    private int[] culledVolleys = new int[16];
+
+    // Volleys whose leader touches or crosses these bounds are culled
+    private float minX = -Float.MAX_VALUE;
+    private float minY = -Float.MAX_VALUE;
+    private float maxX = Float.MAX_VALUE;
+    private float maxY = Float.MAX_VALUE;
+
+    // Projectiles per job; below this an update is not worth splitting
+    private static final int UPDATE_GRAIN = 2048;
+    private int updateGrain = UPDATE_GRAIN;
+    private float stepDelta;
+    private final JobSystem.RangeTask moveTask = this::moveRange;
+
+    public ProjectileSystem(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 16));
+    }
+
+    private void allocate(int capacity) {
+        x = x == null ? new float[capacity] : Arrays.copyOf(x, capacity);
+        y = y == null ? new float[capacity] : Arrays.copyOf(y, capacity);
+        vx = vx == null ? new float[capacity] : Arrays.copyOf(vx, capacity);
+        vy = vy == null ? new float[capacity] : Arrays.copyOf(vy, capacity);
+        rotation = rotation == null ? new float[capacity] : Arrays.copyOf(rotation, capacity);
+        prevX = prevX == null ? new float[capacity] : Arrays.copyOf(prevX, capacity);
+        prevY = prevY == null ? new float[capacity] : Arrays.copyOf(prevY, capacity);
+        prevRotation = prevRotation == null ? new float[capacity] : Arrays.copyOf(prevRotation, capacity);
+        spin = spin == null ? new float[capacity] : Arrays.copyOf(spin, capacity);
+        size = size == null ? new float[capacity] : Arrays.copyOf(size, capacity);
+        harmless = harmless == null ? new float[capacity] : Arrays.copyOf(harmless, capacity);
+        volley = volley == null ? new int[capacity] : Arrays.copyOf(volley, capacity);
+        leader = leader == null ? new boolean[capacity] : Arrays.copyOf(leader, capacity);
+        culled = culled == null ? new boolean[capacity] : Arrays.copyOf(culled, capacity);
+    }
+
+    public void setBounds(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Projectiles per job when an update is split. The default only splits far bigger swarms
+     * than a game has; a small grain forces real games through the split path, for
+     * determinism checks.
+     */
+    public void setUpdateGrain(int grain) {
+        updateGrain = Math.max(1, grain);
+    }
+
+    /** Id to pass to {@link #spawn} for every projectile of one volley. */
+    public int newVolley() {
+        return nextVolley++;
+    }
+
+    /** Adds a projectile and returns its index, which is only valid until the next removal. */
+    public int spawn(float px, float py, float pvx, float pvy, float startRotation, float rotationSpeed,
+                     float projectileSize, float harmlessTime, int volleyId) {
+        if (count == x.length) {
+            allocate(count * 2);
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        rotation[i] = startRotation;
+        prevX[i] = px;
+        prevY[i] = py;
+        prevRotation[i] = startRotation;
+        spin[i] = rotationSpeed;
+        size[i] = projectileSize;
+        harmless[i] = harmlessTime;
+        volley[i] = volleyId;
+        leader[i] = volleyId != lastSpawnedVolley;
+        lastSpawnedVolley = volleyId;
+        return i;
+    }
+
+    /** Moves every projectile one step and culls the volleys whose leader left the bounds. Returns how many projectiles were culled. */
+    public int update(float delta) {
+        return update(delta, null);
+    }
+
+    /** Same, with the move pass split across jobs when there are enough projectiles. */
+    public int update(float delta, JobSystem jobs) {
+        stepDelta = delta;
+        if (jobs == null) {
+            moveRange(0, count);
+        } else {
+            jobs.parallelFor(count, updateGrain, moveTask);
+        }
+
+        // Merge: gather the culled volleys, then remove their projectiles highest index first,
+        // so every projectile swapped in has already been checked
+        int volleys = 0;
+        for (int i = 0; i < count; i++) {
+            if (!culled[i]) continue;
+            if (volleys == culledVolleys.length) {
+                culledVolleys = Arrays.copyOf(culledVolleys, volleys * 2);
+            }
+            culledVolleys[volleys++] = volley[i];
+        }
+        if (volleys == 0) return 0;
+
+        Arrays.sort(culledVolleys, 0, volleys);
+        int removed = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            if (Arrays.binarySearch(culledVolleys, 0, volleys, volley[i]) >= 0) {
+                removeAt(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    // Only touches slots in [from, to), so ranges can run on different threads
+    private void moveRange(int from, int to) {
+        float delta = stepDelta;
+        for (int i = from; i < to; i++) {
+            culled[i] = false;
+            if (harmless[i] > 0) {
+                harmless[i] -= delta;
+                continue;
+            }
+
+            if (leader[i] && (x[i] <= minX || y[i] <= minY || x[i] >= maxX || y[i] >= maxY)) {
+                culled[i] = true;
+                continue;
+            }
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            prevRotation[i] = rotation[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+            rotation[i] += spin[i];
+        }
+    }
+
+    /**
+     * First armed projectile whose box (position to position + size) overlaps the given box,
+     * edges included, or -1.
+     */
+    public int findOverlap(float left, float bottom, float width, float height) {
+        float right = left + width;
+        float top = bottom + height;
+        for (int i = 0; i < count; i++) {
+            if (harmless[i] > 0) continue;
+            float s = size[i];
+            if (left <= x[i] + s && right >= x[i] && bottom <= y[i] + s && top >= y[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** First armed projectile whose position is closer than radius to the given point, or -1. */
+    public int findWithin(float px, float py, float radius) {
+        float radiusSquared = radius * radius;
+        for (int i = 0; i < count; i++) {
+            if (harmless[i] > 0) continue;
+            float dx = x[i] - px;
+            float dy = y[i] - py;
+            if (dx * dx + dy * dy < radiusSquared) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Registers every armed projectile in the grid, with its index as the id. */
+    public void insertInto(SpatialHash grid, int layer) {
+        for (int i = 0; i < count; i++) {
+            if (harmless[i] > 0) continue;
+            grid.insert(x[i], y[i], size[i], size[i], i, layer);
+        }
+    }
+
+    public void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        rotation[i] = rotation[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        prevRotation[i] = prevRotation[last];
+        spin[i] = spin[last];
+        size[i] = size[last];
+        harmless[i] = harmless[last];
+        volley[i] = volley[last];
+        leader[i] = leader[last];
+    }
+
+    public void removeVolley(int volleyId) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (volley[i] == volleyId) {
+                removeAt(i);
+            }
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** Draws every projectile with the same region, rotated around its centre. */
+    public void draw(SpriteBatch batch, TextureRegion region) {
+        draw(batch, region, 1f);
+    }
+
+    /** Same, placed alpha of the way from the previous update to the current one. */
+    public void draw(SpriteBatch batch, TextureRegion region, float alpha) {
+        for (int i = 0; i < count; i++) {
+            float s = size[i];
+            float px = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float py = prevY[i] + (y[i] - prevY[i]) * alpha;
+            float r = prevRotation[i] + (rotation[i] - prevRotation[i]) * alpha;
+            batch.draw(region, px, py, s / 2, s / 2, s, s, 1, 1, r);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public float getSize(int i) {
+        return size[i];
+    }
+
+    public int getVolley(int i) {
+        return volley[i];
+    }
+}
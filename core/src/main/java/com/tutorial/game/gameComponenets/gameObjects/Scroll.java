@@ -1,20 +1,21 @@
 package com.tutorial.game.gameComponenets.gameObjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
-import static com.badlogic.gdx.math.MathUtils.random;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
 public class Scroll {
-    Texture scrollTxr;
+    TextureRegion scrollTxr;
     Sprite scrollSprite;
 
-    public Scroll() {
-        scrollTxr = new Texture("scroll.png");
-        scrollSprite = new Sprite(scrollTxr);
+    public Scroll(GameWorld world) {
+        RandomXS128 random = world.getRandom();
+        scrollTxr = world.assets.getRegion(GameAssets.SCROLL);
+        scrollSprite = world.assets.createSprite(GameAssets.SCROLL);
         scrollSprite.setSize(2f, 2f);
-        scrollSprite.setPosition(8+random()*(18-scrollSprite.getWidth()),8+random()*(18-scrollSprite.getHeight()));
+        scrollSprite.setPosition(8+random.nextFloat()*(18-scrollSprite.getWidth()),8+random.nextFloat()*(18-scrollSprite.getHeight()));
     }
 
     public void draw(SpriteBatch batch){
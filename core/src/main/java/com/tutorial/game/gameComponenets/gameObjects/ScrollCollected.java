@@ -1,39 +1,41 @@
 package com.tutorial.game.gameComponenets.gameObjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
 public class ScrollCollected {
-    Texture scrollTxr;
-    Texture pinTxt;
+    TextureRegion scrollTxr;
+    TextureRegion pinTxt;
     Sprite scrollSprite;
     Sprite pinSprite;
     GameScreen gs;
 
-    String attackDirection;
+    Direction attackDirection;
 
-    public ScrollCollected(GameScreen gs, String attackDirection) {
+    public ScrollCollected(GameScreen gs, Direction attackDirection) {
+        GameAssets assets = gs.getAssets();
         switch (attackDirection) {
-            case "up":
-                scrollTxr = new Texture("scroll_up.png");
+            case UP:
+                scrollTxr = assets.getRegion(GameAssets.SCROLL_UP);
                 break;
-            case "down":
-                scrollTxr = new Texture("scroll_down.png");
+            case DOWN:
+                scrollTxr = assets.getRegion(GameAssets.SCROLL_DOWN);
                 break;
-            case "left":
-                scrollTxr = new Texture("scroll_left.png");
+            case LEFT:
+                scrollTxr = assets.getRegion(GameAssets.SCROLL_LEFT);
                 break;
-            case "right":
-                scrollTxr = new Texture("scroll_right.png");
+            case RIGHT:
+                scrollTxr = assets.getRegion(GameAssets.SCROLL_RIGHT);
                 break;
             default:
-                scrollTxr = new Texture("pin.png");
+                scrollTxr = assets.getRegion(GameAssets.PIN);
                 break;
         }
         this.attackDirection = attackDirection;
-        pinTxt = new Texture("pin.png");
+        pinTxt = assets.getRegion(GameAssets.PIN);
         scrollSprite = new Sprite(scrollTxr);
         pinSprite = new Sprite(pinTxt);
         scrollSprite.setSize(6.5f, 6.5f);
@@ -71,7 +73,7 @@ public class ScrollCollected {
         return scrollSprite;
     }
 
-    public String getAttackDirection(){
+    public Direction getAttackDirection(){
         return attackDirection;
     }
 
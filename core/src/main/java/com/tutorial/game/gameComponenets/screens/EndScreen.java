@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.tutorial.game.MainGame;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
 public class EndScreen implements Screen {
     final MainGame game;
@@ -14,7 +15,7 @@ public class EndScreen implements Screen {
 
     public EndScreen(final MainGame game, float gameTime, int scoreAdd) {
         this.game = game;
-        screen = new Texture("endscreen.png");
+        screen = game.assets.getTexture(GameAssets.END_SCREEN);
         score = (int) (gameTime*100) + scoreAdd;
         gameTimeString = Integer.toString((int) Math.floor(gameTime/60))+"min "+Integer.toString((int) Math.floor(gameTime%60))+"s!";
     }
@@ -7,45 +7,41 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.tutorial.game.MainGame;
 import com.tutorial.game.gameComponenets.gameObjects.*;
+import com.tutorial.game.gameComponenets.utils.FrameProfiler;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 import com.tutorial.game.gameComponenets.utils.InputUtils;
+import com.tutorial.game.gameComponenets.controllers.FrameRingPublisher;
 import com.tutorial.game.gameComponenets.controllers.HeadMovementController;
 import com.tutorial.game.gameComponenets.controllers.HandSignController;
 
-import static com.badlogic.gdx.math.MathUtils.E;
-import static com.badlogic.gdx.math.MathUtils.random;
-
 public class GameScreen implements Screen {
     final MainGame game;
-    float survivalTime;
-    float difficultyUpTimer = 7f;
-    int scoreAdd;
+    final GameWorld world; // Everything that moves; this screen adds input, controllers and drawing
 
-    boolean attackSeq = false;
-    String tempAttackDirection;
+    // Fixed-timestep simulation; movement constants are tuned per step at 60 steps per second
+    public static final float STEP = 1 / 60f;
+    static final float MAX_FRAME_TIME = 0.25f; // Drop time rather than spiral after a long hitch
+    float accumulator;
+    boolean gameOver;
 
-    Texture arenaTxr;
-    Texture playerTxr;
-    Sprite playerSprite;
-    Texture heartTxr;
+    boolean attackSeq = false;
+    Direction tempAttackDirection;
 
-    float enemyTimer;
-    float enemySpawnTime = 7f;
-    float MAX_scrollSpawnTimer = 9f;
-    float scrollSpawnTimer = 10f;
+    TextureRegion arenaTxr;
+    Sprite playerSprite; // The world's
+    TextureRegion heartTxr;
 
     Array<Sprite> hearts;
-    Enemy[] enemies;
-    Array<Scroll> scrolls;
-    Array<ScrollCollected> scrollsCollected;
-    Array<EnemyAttack> enemyAttacks;
-    Array<PlayerAttack> playerAttacks;
-    final int MAX_SCROLLS = 2;
+    Array<ScrollCollected> scrollsCollected; // Mirrors world.getCollectedScrolls(), same order
+    TextureRegion fireSwirlRegion;
     Array<Sprite> spritesForAttackSeq;
 
     ScrollCollected mouseOnScroll = null;
@@ -56,30 +52,39 @@ public class GameScreen implements Screen {
     // Head movement controller
     private final HeadMovementController headController;
     private boolean useHeadControl = true;
-    private Texture cameraTexture;
 
     private final HandSignController handSignController;
+    private final FrameRingPublisher framePublisher; // Camera frames for the Python hand engine
+
+    // F3 shows how many draw calls (batch flushes) the last frame took
+    private boolean showRenderStats = false;
+    // F4 shows where each frame's time went
+    private final FrameProfiler profiler;
+
+    // Capture-to-screen latency of head and hand input, logged and shown every few seconds
+    static final float LATENCY_LOG_INTERVAL = 10f;
+    private float latencyLogTimer;
+    private String headLatencyLine = "Head: collecting";
+    private String handLatencyLine = "Hand: collecting";
 
 
     public GameScreen(MainGame game) {
         this.game = game;
-        arenaTxr = new Texture("arena.png");
-        playerTxr = new Texture("player.png");
-        heartTxr = new Texture("heart.png");
-        playerSprite = new Sprite(playerTxr);
-        playerSprite.setSize(2.4f, 2.4f);
-        playerSprite.setPosition(15, 15);
-        enemies = new Enemy[4];
-        scrolls =  new Array<>();
+        // A fresh seed per game; it is logged so a run can be replayed in the headless runner
+        long seed = TimeUtils.millis();
+        System.out.println("🎲 Game seed: " + seed);
+        world = new GameWorld(game.assets, seed, game.jobs);
+        arenaTxr = game.assets.getRegion(GameAssets.ARENA);
+        heartTxr = game.assets.getRegion(GameAssets.HEART);
+        playerSprite = world.getPlayerSprite();
         scrollsCollected = new Array<>();
         hearts = new Array<>();
-        enemyAttacks = new Array<>();
-        playerAttacks = new Array<>();
+        fireSwirlRegion = game.assets.getRegion(GameAssets.FIRE_SWIRL);
         spritesForAttackSeq =  new Array<>();
-        spritesForAttackSeq.add(new Sprite(new Texture("timer_frame.png")));
+        spritesForAttackSeq.add(game.assets.createSprite(GameAssets.TIMER_FRAME));
         spritesForAttackSeq.get(0).setSize(58,32);
         spritesForAttackSeq.get(0).setPosition(0,0);
-        spritesForAttackSeq.add(new Sprite(new Texture("timer_bar.png")));
+        spritesForAttackSeq.add(game.assets.createSprite(GameAssets.TIMER_BAR));
         spritesForAttackSeq.get(1).setPosition(35,24);
 
         //createEnemy();
@@ -92,10 +97,11 @@ public class GameScreen implements Screen {
         pixmap.dispose();
 
         // Initialize head movement controller
-        headController = new HeadMovementController();
+        headController = new HeadMovementController(game.cameraService);
         headController.toggleCameraFeed();
-        cameraTexture = new Texture(1, 1, Pixmap.Format.RGB888); // placeholder
         handSignController = new HandSignController();
+        framePublisher = new FrameRingPublisher(game.cameraService);
+        profiler = new FrameProfiler(Gdx.graphics);
 
     }
 
@@ -106,31 +112,99 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
+        profiler.beginFrame();
+        profiler.mark(FrameProfiler.INPUT);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            showRenderStats = !showRenderStats;
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            profiler.toggle();
+        }
+
         if(!attackSeq) {
-            survivalTime += Gdx.graphics.getDeltaTime();
             input();
-            logic();
+
+            profiler.mark(FrameProfiler.LOGIC);
+            // Fixed-rate simulation: as many steps as real time calls for, whatever the refresh rate
+            accumulator += Math.min(delta, MAX_FRAME_TIME);
+            while (accumulator >= STEP && !attackSeq && !gameOver) {
+                step();
+                accumulator -= STEP;
+            }
         }else{
             inputWhenPaused();
+            profiler.mark(FrameProfiler.LOGIC);
             logicWhenPaused();
         }
-        draw();
+        if (gameOver) return; // Already on the end screen
+
+        // Draw between the last two steps
+        profiler.mark(FrameProfiler.DRAW);
+        draw(attackSeq ? 1f : accumulator / STEP);
+        profiler.mark(-1); // Latency bookkeeping and its periodic log are not game logic
+
+        // The batch has flushed; only the buffer swap is left, which we don't get to see
+        long presented = System.nanoTime();
+        headController.getLatency().presented(presented);
+        handSignController.getLatency().presented(presented);
+        latencyLogTimer += delta;
+        if (latencyLogTimer >= LATENCY_LOG_INTERVAL) {
+            latencyLogTimer = 0;
+            logLatency();
+        }
+        profiler.endFrame(game.batch.renderCalls);
+    }
+
+    // Log each pipeline's last window and start a new one
+    private void logLatency() {
+        if (headController.getLatency().getCount() > 0) {
+            System.out.println("📊 " + headController.getLatency().summary());
+            headLatencyLine = headController.getLatency().overlayLine();
+        }
+        if (handSignController.getLatency().getCount() > 0) {
+            System.out.println("📊 " + handSignController.getLatency().summary());
+            handLatencyLine = handSignController.getLatency().overlayLine();
+        }
+        headController.getLatency().reset();
+        handSignController.getLatency().reset();
+    }
+
+    private void step() {
+        world.savePreviousPositions();
+        movePlayer(STEP);
+        world.step(STEP);
+
+        // Bring the HUD in line with the world
+        while (hearts.size > world.getLives()) {
+            hearts.pop();
+        }
+        Array<Direction> collected = world.getCollectedScrolls();
+        while (scrollsCollected.size < collected.size) {
+            scrollsCollected.add(new ScrollCollected(this, collected.get(scrollsCollected.size)));
+        }
+
+        if (world.isGameOver()) {
+            gameOver = true;
+            game.setScreen(new EndScreen(game, world.getSurvivalTime(), world.getScoreAdd()));
+            dispose();
+        }
     }
 
     private void inputWhenPaused() {
         // Hand sign detection happens automatically in update()
         // Just check if we detected the correct sign
         if (handSignController != null && handSignController.isActive()) {
-            String detectedDir = handSignController.getDetectedDirection();
+            Direction detectedDir = handSignController.getDetectedDirection();
 
-            if (detectedDir != null && detectedDir.equals(tempAttackDirection)) {
+            if (detectedDir != null && detectedDir == tempAttackDirection) {
                 // Success! Cast the spell
-                playerAttacks.add(new PlayerAttack(this, tempAttackDirection));
-                pauseOrResumeGameForAttack();
+                castSpell();
             }
 
             // Update hand sign controller
+            profiler.mark(FrameProfiler.HAND);
             handSignController.update();
+            profiler.mark(FrameProfiler.INPUT);
         }
     }
 
@@ -142,10 +216,9 @@ public class GameScreen implements Screen {
 
             // If hand sign controller detected correct direction
             if (handSignController != null && handSignController.hasDetectedDirection()) {
-                String detectedDir = handSignController.getDetectedDirection();
-                if (detectedDir.equals(tempAttackDirection)) {
-                    playerAttacks.add(new PlayerAttack(this, tempAttackDirection));
-                    pauseOrResumeGameForAttack();
+                Direction detectedDir = handSignController.getDetectedDirection();
+                if (detectedDir == tempAttackDirection) {
+                    castSpell();
                 }
             }
         } else {
@@ -157,10 +230,18 @@ public class GameScreen implements Screen {
 
         // Update hand sign controller during attack sequence
         if (handSignController != null && handSignController.isActive()) {
+            profiler.mark(FrameProfiler.HAND);
             handSignController.update();
+            profiler.mark(FrameProfiler.LOGIC);
         }
     }
 
+    private void castSpell() {
+        world.addPlayerAttack(tempAttackDirection);
+        handSignController.markConsumed(System.nanoTime());
+        pauseOrResumeGameForAttack();
+    }
+
     private void drawWhenPaused() {
         game.batch.setColor(0, 0, 0, 0.65f);
         game.batch.draw(pixel, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -208,9 +289,8 @@ public class GameScreen implements Screen {
         }
     }
 
+    // Once per rendered frame: key toggles, camera upload and scroll clicks
     private void input() {
-        float delta = Gdx.graphics.getDeltaTime();
-
         // Toggle control methods with H key
         if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
             useHeadControl = !useHeadControl;
@@ -227,18 +307,46 @@ public class GameScreen implements Screen {
         }
 
         // Only update head position if NOT in attack sequence
-        if (useHeadControl && headController.isHeadTrackingEnabled() && !attackSeq) { // REMOVED: && !isGestureModeActive
-            // ABSOLUTE POSITIONING: Head position directly controls character position
+        if (useHeadControl && headController.isHeadTrackingEnabled() && !attackSeq) {
+            profiler.mark(FrameProfiler.HEAD);
             headController.updateHeadPosition();
+            profiler.mark(FrameProfiler.INPUT);
+        }
 
+        Vector2 mouseCoords = InputUtils.getMouseWorldCoords(game.viewport);
+        mouseOnScroll = null;
+        for (int i = 0; i < scrollsCollected.size; i++) {
+            ScrollCollected scroll = scrollsCollected.get(i);
+            Sprite sspr = scroll.getScrollSprite();
+            if(mouseCoords.x <= sspr.getX()+sspr.getWidth() && mouseCoords.x >= sspr.getX() && mouseCoords.y <= sspr.getY()+sspr.getWidth() && mouseCoords.y >= sspr.getY()){
+                mouseOnScroll = scroll;
+                if(Gdx.input.isTouched()){
+                    tempAttackDirection = world.useScroll(i);
+                    bigScroll = scroll;
+                    scrollsCollected.removeIndex(i);
+                    Sprite spr = bigScroll.getScrollSprite();
+                    spr.setSize(16,16);
+                    spr.setPosition(40,2);
+                    pauseOrResumeGameForAttack();
+                }
+                break;
+            }
+        }
+    }
+
+    // Once per simulation step
+    private void movePlayer(float delta) {
+        if (useHeadControl && headController.isHeadTrackingEnabled()) { // REMOVED: && !isGestureModeActive
+            // ABSOLUTE POSITIONING: Head position directly controls character position
             // Get absolute positions from head controller
             float targetX = headController.getAbsoluteX();
             float targetY = headController.getAbsoluteY();
+            headController.markConsumed(System.nanoTime());
 
             // Smooth movement (optional - remove for instant teleport)
             float currentX = playerSprite.getX();
             float currentY = playerSprite.getY();
-            float lerpFactor = 0.15f; // Adjust for smoothing (0 = instant, 1 = very slow)
+            float lerpFactor = 0.15f; // Per step; adjust for smoothing (0 = instant, 1 = very slow)
 
             playerSprite.setX(currentX + (targetX - currentX) * lerpFactor);
             playerSprite.setY(currentY + (targetY - currentY) * lerpFactor);
@@ -247,7 +355,7 @@ public class GameScreen implements Screen {
             // playerSprite.setX(targetX);
             // playerSprite.setY(targetY);
 
-        } else if (!attackSeq) { // REMOVED: && !isGestureModeActive
+        } else {
             // Original keyboard control (fallback)
             float speed = 8f;
             if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
@@ -264,92 +372,10 @@ public class GameScreen implements Screen {
                 playerSprite.translateY(-speed * delta);
             }
         }
-
-        Vector2 mouseCoords = InputUtils.getMouseWorldCoords(game.viewport);
-        mouseOnScroll = null;
-        for (ScrollCollected scroll : scrollsCollected) {
-            Sprite sspr = scroll.getScrollSprite();
-            if(mouseCoords.x <= sspr.getX()+sspr.getWidth() && mouseCoords.x >= sspr.getX() && mouseCoords.y <= sspr.getY()+sspr.getWidth() && mouseCoords.y >= sspr.getY()){
-                mouseOnScroll = scroll;
-                if(Gdx.input.isTouched()){
-                    tempAttackDirection = scroll.getAttackDirection();
-                    bigScroll = scroll;
-                    scrollsCollected.removeValue(scroll,true);
-                    Sprite spr = bigScroll.getScrollSprite();
-                    spr.setSize(16,16);
-                    spr.setPosition(40,2);
-                    pauseOrResumeGameForAttack();
-                }
-                break;
-            }
-        }
     }
 
-    private void logic() {
-        float playerWidth = playerSprite.getWidth();
-        float playerHeight = playerSprite.getHeight();
-        playerSprite.setX(MathUtils.clamp(playerSprite.getX(), 6, 26 - playerWidth));
-        playerSprite.setY(MathUtils.clamp(playerSprite.getY(), 6, 26 - playerHeight));
-        float delta = Gdx.graphics.getDeltaTime();
-
-        if (difficultyUpTimer < 0){
-            difficultyUpTimer = 7f;
-            for (Enemy enemy : enemies) {
-                if (enemy != null) {
-                    enemy.higherAttackPercentage();
-                }
-            }
-        } else {
-            difficultyUpTimer -= delta;
-        }
-
-        enemyTimer += delta;
-        if (enemyTimer > enemySpawnTime) {
-            createEnemy();
-        }
-        if (scrolls.size < MAX_SCROLLS) {
-            scrollSpawnTimer -= delta;
-        }
-        if (scrollSpawnTimer <= 0){
-            scrolls.add(new Scroll());
-            scrollSpawnTimer = MAX_scrollSpawnTimer;
-        }
-
-        for (EnemyAttack enemyAttack : enemyAttacks){
-            enemyAttack.update();
-        }
-
-        for (Enemy enemy : enemies){
-            if(enemy != null) {
-                enemy.update(this);
-            }
-        }
-
-        for (PlayerAttack playerAttack : playerAttacks){
-            playerAttack.update();
-        }
-
-        for (int i = scrolls.size - 1; i >= 0; i--) {
-            Sprite scrollSprite = scrolls.get(i).getScrollSprite();
-            float scrollWidth = scrollSprite.getWidth();
-            float scrollHeight = scrollSprite.getHeight();
-
-            if (playerSprite.getX() + playerWidth >= scrollSprite.getX() && playerSprite.getX() <= scrollSprite.getX() + scrollWidth && playerSprite.getY() + playerHeight >= scrollSprite.getY() && playerSprite.getY() <= scrollSprite.getY() + scrollHeight && scrollsCollected.size < 4) {
-                scrolls.removeIndex(i);
-                addNewScrollCollected();
-            }
-        }
-
-        // Update camera texture
-        if (headController.isHeadTrackingEnabled() && headController.isCameraFeedEnabled()) {
-            Texture newTexture = headController.getCameraTexture();
-            if (newTexture != null) {
-                cameraTexture = newTexture;
-            }
-        }
-    }
-
-    private void draw() {
+    // alpha is how far we are between the previous and the current step, for interpolation
+    private void draw(float alpha) {
         ScreenUtils.clear(Color.BLACK);
         game.viewport.apply();
         game.batch.setProjectionMatrix(game.viewport.getCamera().combined);
@@ -360,35 +386,40 @@ public class GameScreen implements Screen {
 
         game.batch.draw(arenaTxr, 0, 0, worldWidth, worldHeight);
 
-        for (Scroll scroll : scrolls) {
+        for (Scroll scroll : world.getScrolls()) {
             scroll.draw(game.batch);
         }
 
-        for (Enemy enemy : enemies) {
+        for (Enemy enemy : world.getEnemies()) {
             if (enemy != null) {
-                enemy.draw(game.batch);
+                enemy.draw(game.batch, alpha);
             }
         }
 
-        for (EnemyAttack enemyAttack : enemyAttacks) {
-            enemyAttack.draw(game.batch);
-        }
+        world.getEnemyProjectiles().draw(game.batch, fireSwirlRegion, alpha);
 
         for (Sprite heart : hearts) {
             heart.draw(game.batch);
         }
 
-        for (PlayerAttack playerAttack : playerAttacks){
-            playerAttack.draw(game.batch);
+        Array<PlayerAttack> playerAttacks = world.getPlayerAttacks();
+        for (int i = 0; i < playerAttacks.size; i++) {
+            playerAttacks.get(i).draw(game.batch, alpha);
         }
 
         for (int i = scrollsCollected.size - 1; i >= 0; i--) {
             scrollsCollected.get(i).draw(game.batch,i);
         }
 
+        // Draw the player where it was between steps, then put it back for the logic
+        float playerX = playerSprite.getX();
+        float playerY = playerSprite.getY();
+        playerSprite.setPosition(MathUtils.lerp(world.getPlayerPrevX(), playerX, alpha), MathUtils.lerp(world.getPlayerPrevY(), playerY, alpha));
         playerSprite.draw(game.batch);
+        playerSprite.setPosition(playerX, playerY);
 
-        // Draw camera feed
+        // Draw camera feed (owned and double-buffered by the head controller)
+        Texture cameraTexture = headController.getCameraTexture();
         if (headController.isHeadTrackingEnabled() && headController.isCameraFeedEnabled() && cameraTexture != null && !attackSeq) {
             // Draw in top-right corner, scaled down
             float cameraWidth = 16f;
@@ -418,47 +449,22 @@ public class GameScreen implements Screen {
 //            }
 //        }
 
-        int score = (int) (survivalTime*100) + scoreAdd;
-        game.font.draw(game.batch, "Score: "+score, 40f, 1.5f);
+        game.font.draw(game.batch, "Score: "+world.getScore(), 40f, 1.5f);
 
-        game.batch.end();
-    }
-
-    private void createEnemy() {
-        for (int i = 0; i < enemies.length; i++){
-            if (enemies[i] == null) {
-                enemies[i] = new Enemy(i);
-                enemyTimer = 0;
-                break;
-            }
+        if (showRenderStats) {
+            game.font.draw(game.batch, "Draw calls: " + profiler.getLastRenderCalls(), 40f, 31f);
+            game.font.draw(game.batch, "Enemy projectiles: " + world.getEnemyProjectiles().size(), 34f, 30f);
+            game.font.draw(game.batch, world.getPlayerAttackPool().getStats(), 34f, 29f);
+            game.font.draw(game.batch, "Latency p50/p95/p99", 34f, 27f);
+            game.font.draw(game.batch, headLatencyLine, 34f, 26f);
+            game.font.draw(game.batch, handLatencyLine, 34f, 25f);
         }
-    }
 
-    private void addNewScrollCollected() {
-        scoreAdd += 100;
-        int scrollType = (int) (random()*4);
-        switch (scrollType){
-            case 0:
-                scrollsCollected.add(new ScrollCollected(this,"up"));
-                break;
-            case 1:
-                scrollsCollected.add(new ScrollCollected(this,"down"));
-                break;
-            case 2:
-                scrollsCollected.add(new ScrollCollected(this,"left"));
-                break;
-            case 3:
-                scrollsCollected.add(new ScrollCollected(this,"right"));
-                break;
+        if (profiler.isVisible()) {
+            profiler.draw(game.batch, game.font, pixel, 1f, 16f, 24f, 15f);
         }
-    }
 
-    public void takeDamage(){
-        hearts.pop();
-        if (hearts.size == 0) {
-            game.setScreen(new EndScreen(game, survivalTime, scoreAdd));
-            dispose();
-        }
+        game.batch.end();
     }
 
     private void setHearts(){
@@ -471,28 +477,8 @@ public class GameScreen implements Screen {
         hearts.get(2).setPosition(33,13);
     }
 
-    public void addIceAttack(float x, float y, String direction){
-        enemyAttacks.add(new EnemyAttack(this,x,y,direction));
-    }
-
-    public void removeIceAttack(EnemyAttack identity){
-        for (int i = enemyAttacks.size - 1; i >= 0; i--) {
-            if (enemyAttacks.get(i).equals(identity)) {
-                enemyAttacks.removeIndex(i);
-            }
-        }
-    }
-
-    public void removePlayerAttack(PlayerAttack identity){
-        for (int i = playerAttacks.size - 1; i >= 0; i--) {
-            if (playerAttacks.get(i).equals(identity)) {
-                playerAttacks.removeIndex(i);
-            }
-        }
-    }
-
-    public Sprite getPlayerSprite(){
-        return playerSprite;
+    public GameAssets getAssets(){
+        return game.assets;
     }
 
     public ScrollCollected getMouseOnScroll(){
@@ -502,42 +488,30 @@ public class GameScreen implements Screen {
     public void pauseOrResumeGameForAttack() {
         attackSeq = !attackSeq;
 
+        // The camera stays open throughout; only the consumers change
         if (attackSeq) {
-            // 1. STOP Head Tracking (Release Camera)
+            // 1. STOP Head Tracking (the game is paused, leave the CPU to the hand engine)
             if (headController != null) {
                 headController.pauseCamera();
             }
-            // 2. START Hand Tracking (Python Grabs Camera)
+            // 2. START Hand Tracking (Python reads our frames from the ring file)
+            framePublisher.setPublishing(true);
             if (handSignController != null) {
                 handSignController.startSpellCasting(tempAttackDirection);
             }
         } else {
-            // 1. STOP Hand Tracking (Python Releases Camera)
+            // 1. STOP Hand Tracking
             if (handSignController != null) {
                 handSignController.stopSpellCasting();
             }
-            // 2. RESUME Head Tracking (Java Grabs Camera)
+            framePublisher.setPublishing(false);
+            // 2. RESUME Head Tracking
             if (headController != null) {
                 headController.resumeCamera();
             }
         }
     }
 
-    public Enemy[] getEnemies(){
-        return enemies;
-    }
-
-    public void removeEnemy(Enemy identity){
-        for (int i = enemies.length - 1; i >= 0; i--) {
-            if (enemies[i] == identity) {
-                enemies[i] = null;
-                enemyTimer = 0;
-                scoreAdd += 300;
-                break;
-            }
-        }
-    }
-
     @Override
     public void resize(int width, int height) {
         game.viewport.update(width, height, true);
@@ -560,19 +534,16 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        arenaTxr.dispose();
-        playerTxr.dispose();
-        heartTxr.dispose();
+        // Shared textures belong to GameAssets
         pixel.dispose();
+        profiler.dispose();
         if (headController != null) {
             headController.dispose();
         }
-        if (cameraTexture != null) {
-            cameraTexture.dispose();
-        }
 
         if (handSignController != null) {
             handSignController.dispose();
         }
+        framePublisher.dispose();
     }
 }
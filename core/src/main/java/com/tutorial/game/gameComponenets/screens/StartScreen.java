@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.tutorial.game.MainGame;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
 
 public class StartScreen implements Screen {
     final MainGame game;
@@ -15,8 +16,8 @@ public class StartScreen implements Screen {
 
     public StartScreen(final MainGame game) {
        this.game = game;
-       screen = new Texture("startscreen.png");
-       playerSprite = new Sprite(new Texture("player.png"));
+       screen = game.assets.getTexture(GameAssets.START_SCREEN);
+       playerSprite = game.assets.createSprite(GameAssets.PLAYER);
        playerSprite.setSize(16,16);
        playerSprite.setOrigin(playerSprite.getWidth()/2,playerSprite.getHeight()/2);
        playerSprite.setPosition(37.5f,3);
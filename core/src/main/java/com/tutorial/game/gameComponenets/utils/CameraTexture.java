@@ -0,0 +1,108 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import org.opencv.core.Core;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.imgproc.Imgproc;
+
+/**
+ * Double-buffered camera texture for OpenCV frames.
+ * The Pixmap's native buffer is wrapped as a Mat, so the colour conversion writes
+ * straight into it. Each frame is uploaded with glTexSubImage2D into the texture that
+ * is not on screen, then the two are swapped, so we never write into a texture the GPU
+ * may still be sampling. Textures are only allocated when the resolution changes.
+ * {@link #update} must be used on the render thread.
+ */
+public class CameraTexture {
+    private Pixmap pixmap;
+    private Mat pixmapMat;   // Shares memory with pixmap
+    private Mat mirrorFrame; // Scratch frame for mirrored uploads
+    private final Texture[] textures = new Texture[2];
+    private int front;
+
+    /** Converts a BGR frame to RGB, optionally mirrors it, and uploads it. Returns the texture now on screen. */
+    public Texture update(Mat bgrFrame, boolean mirror) {
+        if (!convert(bgrFrame, mirror)) return getTexture();
+
+        ensureTextures();
+        int back = 1 - front;
+        textures[back].bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight(),
+            pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
+        front = back;
+
+        return textures[front];
+    }
+
+    /**
+     * The CPU half of {@link #update}: converts (and mirrors) into the pixmap. Needs no GL, so
+     * it can be benchmarked headless. Returns false for an empty frame.
+     */
+    public boolean convert(Mat bgrFrame, boolean mirror) {
+        if (bgrFrame == null || bgrFrame.empty()) return false;
+
+        ensureSize(bgrFrame.cols(), bgrFrame.rows());
+
+        Mat source = bgrFrame;
+        if (mirror) {
+            Core.flip(bgrFrame, mirrorFrame, 1);  // 1 = horizontal flip
+            source = mirrorFrame;
+        }
+        Imgproc.cvtColor(source, pixmapMat, Imgproc.COLOR_BGR2RGB);
+        return true;
+    }
+
+    /** RGB888 copy of the last converted frame; null before the first one. */
+    public Pixmap getPixmap() {
+        return pixmap;
+    }
+
+    public Texture getTexture() {
+        return textures[front];
+    }
+
+    // (Re)allocates the pixmap only when the frame size changes; the textures follow on the next upload
+    private void ensureSize(int width, int height) {
+        if (pixmap != null && pixmap.getWidth() == width && pixmap.getHeight() == height) return;
+
+        dispose();
+        pixmap = new Pixmap(width, height, Pixmap.Format.RGB888);
+        pixmapMat = new Mat(height, width, CvType.CV_8UC3, pixmap.getPixels());
+        mirrorFrame = new Mat();
+    }
+
+    private void ensureTextures() {
+        if (textures[0] != null) return;
+
+        for (int i = 0; i < textures.length; i++) {
+            textures[i] = new Texture(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGB888);
+        }
+        front = 0;
+    }
+
+    public void dispose() {
+        for (int i = 0; i < textures.length; i++) {
+            if (textures[i] != null) {
+                textures[i].dispose();
+                textures[i] = null;
+            }
+        }
+        if (pixmapMat != null) {
+            pixmapMat.release();
+            pixmapMat = null;
+        }
+        if (mirrorFrame != null) {
+            mirrorFrame.release();
+            mirrorFrame = null;
+        }
+        if (pixmap != null) {
+            pixmap.dispose();
+            pixmap = null;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Splits every rendered frame into phases with {@link System#nanoTime()} and keeps the last
+ * {@link #HISTORY} frames in flat arrays, so profiling never allocates.
+ * The frame is a sequence of {@link #mark(int)}s: the time since the previous mark goes to
+ * the phase that was running, so nested work (head tracking inside input) is carved out
+ * by marking into it and back. Also records SpriteBatch flushes and, while the overlay is
+ * shown, texture binds counted by a {@link GLProfiler}. Game thread only.
+ */
+public class FrameProfiler {
+    public static final int INPUT = 0;
+    public static final int HEAD = 1;
+    public static final int HAND = 2;
+    public static final int LOGIC = 3;
+    public static final int DRAW = 4;
+    public static final int PHASES = 5;
+    private static final String[] PHASE_NAMES = {"input", "head", "hand", "logic", "draw"};
+    private static final Color[] PHASE_COLORS = {Color.SKY, Color.LIME, Color.GOLD, Color.ORANGE, Color.MAGENTA};
+    private static final Color IDLE_COLOR = new Color(0.4f, 0.4f, 0.4f, 0.8f); // Swap, vsync and anything unmarked
+    private static final Color BACKGROUND = new Color(0, 0, 0, 0.6f);
+
+    public static final int HISTORY = 120; // Two seconds at 60 fps
+    private static final float GRAPH_MILLIS = 50f; // Top of the graph
+    private static final float TARGET_MILLIS = 1000f / 60f;
+    private static final float BAR_UNITS_PER_MILLI = 2f;
+
+    // Rolling windows, slot = frame % HISTORY
+    private final float[] phaseMillis = new float[HISTORY * PHASES];
+    private final float[] frameMillis = new float[HISTORY]; // Start of this frame to start of the next
+    private final int[] renderCalls = new int[HISTORY];
+    private final int[] textureBinds = new int[HISTORY];
+    private final float[] phaseSums = new float[PHASES];
+    private int frames;
+
+    // Frame in progress
+    private final long[] currentNanos = new long[PHASES];
+    private int currentPhase = -1;
+    private long markNanos;
+    private long frameStartNanos;
+
+    private final GLProfiler glProfiler;
+    private boolean visible;
+    private final StringBuilder text = new StringBuilder(64);
+
+    public FrameProfiler(Graphics graphics) {
+        glProfiler = new GLProfiler(graphics);
+    }
+
+    /** Start of render(); also closes the previous frame's interval. */
+    public void beginFrame() {
+        long now = System.nanoTime();
+        if (frameStartNanos != 0 && frames > 0) {
+            frameMillis[(frames - 1) % HISTORY] = (now - frameStartNanos) / 1e6f;
+        }
+        frameStartNanos = now;
+        markNanos = now;
+        currentPhase = -1;
+        for (int i = 0; i < PHASES; i++) {
+            currentNanos[i] = 0;
+        }
+        glProfiler.reset();
+    }
+
+    /** Whatever runs from here until the next mark belongs to phase; -1 for none. */
+    public void mark(int phase) {
+        long now = System.nanoTime();
+        if (currentPhase >= 0) {
+            currentNanos[currentPhase] += now - markNanos;
+        }
+        markNanos = now;
+        currentPhase = phase;
+    }
+
+    /** End of render(), after the batch has flushed. */
+    public void endFrame(int batchRenderCalls) {
+        mark(-1);
+        int slot = frames % HISTORY;
+        boolean full = frames >= HISTORY;
+        float work = 0;
+        for (int i = 0; i < PHASES; i++) {
+            int index = slot * PHASES + i;
+            if (full) {
+                phaseSums[i] -= phaseMillis[index];
+            }
+            phaseMillis[index] = currentNanos[i] / 1e6f;
+            phaseSums[i] += phaseMillis[index];
+            work += phaseMillis[index];
+        }
+        frameMillis[slot] = work; // Until the next frame starts and gives the real interval
+        renderCalls[slot] = batchRenderCalls;
+        textureBinds[slot] = glProfiler.isEnabled() ? glProfiler.getTextureBindings() : -1;
+        frames++;
+    }
+
+    public void toggle() {
+        setVisible(!visible);
+    }
+
+    /** The GL profiler wraps every GL call, so it only runs while someone is looking. */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        if (visible) {
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /** SpriteBatch flushes in the last finished frame. */
+    public int getLastRenderCalls() {
+        return frames == 0 ? 0 : renderCalls[(frames - 1) % HISTORY];
+    }
+
+    public float getAverageMillis(int phase) {
+        return phaseSums[phase] / Math.max(1, Math.min(frames, HISTORY));
+    }
+
+    /**
+     * Frame-time graph (one column per frame, phases stacked, grey for the rest of the
+     * interval) over per-phase bars of the window average. pixel is any white texture.
+     */
+    public void draw(SpriteBatch batch, BitmapFont font, Texture pixel, float x, float y, float width, float height) {
+        int count = Math.min(frames, HISTORY);
+        float barsHeight = PHASES + 2;
+        float graphY = y + barsHeight;
+        float graphHeight = height - barsHeight;
+        float column = width / HISTORY;
+        float unitsPerMilli = graphHeight / GRAPH_MILLIS;
+
+        batch.setColor(BACKGROUND);
+        batch.draw(pixel, x, y, width, height);
+
+        // Oldest frame on the left
+        float maxFrame = 0;
+        float sumFrame = 0;
+        for (int n = 0; n < count; n++) {
+            int slot = (frames - count + n) % HISTORY;
+            float colX = x + (HISTORY - count + n) * column;
+            float top = graphY;
+            float work = 0;
+            for (int i = 0; i < PHASES; i++) {
+                float ms = phaseMillis[slot * PHASES + i];
+                batch.setColor(PHASE_COLORS[i]);
+                top = stack(batch, pixel, colX, top, column, ms * unitsPerMilli, graphY + graphHeight);
+                work += ms;
+            }
+            float interval = frameMillis[slot];
+            batch.setColor(IDLE_COLOR);
+            stack(batch, pixel, colX, top, column, Math.max(0, interval - work) * unitsPerMilli, graphY + graphHeight);
+            maxFrame = Math.max(maxFrame, interval);
+            sumFrame += interval;
+        }
+
+        // 60 and 30 fps lines
+        batch.setColor(Color.WHITE);
+        batch.draw(pixel, x, graphY + TARGET_MILLIS * unitsPerMilli, width, 0.05f);
+        batch.setColor(Color.GRAY);
+        batch.draw(pixel, x, graphY + 2 * TARGET_MILLIS * unitsPerMilli, width, 0.05f);
+
+        // Per-phase averages
+        for (int i = 0; i < PHASES; i++) {
+            float rowY = y + PHASES - i;
+            float average = getAverageMillis(i);
+            batch.setColor(PHASE_COLORS[i]);
+            batch.draw(pixel, x + 0.5f, rowY - 0.7f, Math.min(width / 2, average * BAR_UNITS_PER_MILLI), 0.5f);
+            text.setLength(0);
+            text.append(PHASE_NAMES[i]).append(' ');
+            appendMillis(text, average);
+            font.draw(batch, text, x + width / 2 + 0.5f, rowY);
+        }
+        batch.setColor(Color.WHITE);
+
+        int last = (frames - 1 + HISTORY) % HISTORY;
+        text.setLength(0);
+        text.append("frame ");
+        appendMillis(text, count == 0 ? 0 : sumFrame / count);
+        text.append(" avg, ");
+        appendMillis(text, maxFrame);
+        text.append(" max | ").append(count == 0 ? 0 : renderCalls[last]).append(" draws, ");
+        if (count == 0 || textureBinds[last] < 0) {
+            text.append('-');
+        } else {
+            text.append(textureBinds[last]);
+        }
+        text.append(" binds");
+        font.draw(batch, text, x + 0.5f, y + PHASES + 1.5f);
+    }
+
+    // Draws one segment of a stacked column, clipped to the top of the graph
+    private static float stack(SpriteBatch batch, Texture pixel, float x, float bottom, float width, float height, float limit) {
+        float clipped = Math.min(height, limit - bottom);
+        if (clipped > 0) {
+            batch.draw(pixel, x, bottom, width, clipped);
+        }
+        return bottom + Math.max(0, clipped);
+    }
+
+    // Two decimals without going through String.format
+    private static void appendMillis(StringBuilder out, float millis) {
+        int hundredths = Math.round(millis * 100);
+        out.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction).append("ms");
+    }
+
+    public void dispose() {
+        glProfiler.disable();
+    }
+}
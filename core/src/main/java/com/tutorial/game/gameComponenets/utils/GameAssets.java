@@ -0,0 +1,100 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Loads every game texture once through an {@link AssetManager} and hands out shared
+ * instances, so spawning objects never touches the disk or uploads to the GPU.
+ * In-game sprites come from the atlas built by the packTextures Gradle task, so a frame
+ * of GameScreen binds a single texture; if the atlas has not been built, the loose PNGs
+ * are loaded instead. Owned by MainGame; nothing handed out here may be disposed by callers.
+ * Without {@link #load()} (headless runs, no GL) regions are null and sprites are untextured,
+ * which is enough for the simulation's positions and sizes.
+ */
+public class GameAssets {
+    public static final String ATLAS = "atlas/game.atlas";
+
+    // Atlas regions (file names without .png)
+    public static final String ARENA = "arena";
+    public static final String PLAYER = "player";
+    public static final String HEART = "heart";
+    public static final String ENEMY = "enemy";
+    public static final String FIRE_SWIRL = "fire_swirl";
+    public static final String ICE_ORB = "ice_orb";
+    public static final String SCROLL = "scroll";
+    public static final String SCROLL_UP = "scroll_up";
+    public static final String SCROLL_DOWN = "scroll_down";
+    public static final String SCROLL_LEFT = "scroll_left";
+    public static final String SCROLL_RIGHT = "scroll_right";
+    public static final String PIN = "pin";
+    public static final String TIMER_FRAME = "timer_frame";
+    public static final String TIMER_BAR = "timer_bar";
+
+    // Stand-alone textures, only drawn on their own screens
+    public static final String START_SCREEN = "startscreen.png";
+    public static final String END_SCREEN = "endscreen.png";
+
+    private static final String[] REGIONS = {
+        ARENA, PLAYER, HEART, ENEMY, FIRE_SWIRL, ICE_ORB, SCROLL,
+        SCROLL_UP, SCROLL_DOWN, SCROLL_LEFT, SCROLL_RIGHT, PIN,
+        TIMER_FRAME, TIMER_BAR
+    };
+    private static final String[] TEXTURES = {START_SCREEN, END_SCREEN};
+
+    private final AssetManager manager = new AssetManager();
+    private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+
+    /** Loads all textures up front. Blocks until they are on the GPU. */
+    public void load() {
+        boolean useAtlas = Gdx.files.internal(ATLAS).exists();
+        if (useAtlas) {
+            manager.load(ATLAS, TextureAtlas.class);
+        } else {
+            System.err.println("⚠️ " + ATLAS + " not found, run the packTextures task. Loading loose textures");
+            for (String name : REGIONS) {
+                manager.load(name + ".png", Texture.class);
+            }
+        }
+        for (String path : TEXTURES) {
+            manager.load(path, Texture.class);
+        }
+        manager.finishLoading();
+
+        TextureAtlas atlas = useAtlas ? manager.get(ATLAS, TextureAtlas.class) : null;
+        for (String name : REGIONS) {
+            TextureRegion region = useAtlas
+                ? atlas.findRegion(name)
+                : new TextureRegion(manager.get(name + ".png", Texture.class));
+            if (region == null) {
+                throw new IllegalStateException("Missing atlas region: " + name);
+            }
+            regions.put(name, region);
+        }
+        System.out.println("✅ Loaded " + REGIONS.length + " sprites" + (useAtlas ? " from the atlas" : ""));
+    }
+
+    public TextureRegion getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /** New sprite on a shared region. Sprites are cheap; only the texture is shared. */
+    public Sprite createSprite(String name) {
+        TextureRegion region = getRegion(name);
+        return region != null ? new Sprite(region) : new Sprite();
+    }
+
+    public Texture getTexture(String path) {
+        return manager.get(path, Texture.class);
+    }
+
+    public void dispose() {
+        manager.dispose();
+        regions.clear();
+    }
+}
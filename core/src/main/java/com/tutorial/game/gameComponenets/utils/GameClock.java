@@ -0,0 +1,29 @@
+package com.tutorial.game.gameComponenets.utils;
+
+/**
+ * Source of wall-clock time for gameplay timers that are not driven by the fixed step,
+ * so replays and headless runs can substitute a clock they control.
+ */
+public interface GameClock {
+    GameClock SYSTEM = System::currentTimeMillis;
+
+    long millis();
+
+    /** Clock that only moves when told to, for replays and headless runs. */
+    class Manual implements GameClock {
+        private long now;
+
+        public Manual(long start) {
+            now = start;
+        }
+
+        public void advance(long millis) {
+            now += millis;
+        }
+
+        @Override
+        public long millis() {
+            return now;
+        }
+    }
+}
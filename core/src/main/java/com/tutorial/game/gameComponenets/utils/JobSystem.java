@@ -0,0 +1,80 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits index ranges across a {@link ForkJoinPool} for simulation work that touches each
+ * entity independently. A task only writes the slots in its own range; anything that
+ * crosses entities (removal, collisions, spawning) belongs in the sequential merge after
+ * {@link #parallelFor} returns, so results do not depend on the thread count.
+ * With one thread, or fewer items than the grain, the task runs inline on the caller.
+ * Owned by MainGame.
+ */
+public class JobSystem {
+    /** Work over the slots from (inclusive) to to (exclusive). */
+    public interface RangeTask {
+        void run(int from, int to);
+    }
+
+    private final ForkJoinPool pool; // null when everything runs inline
+    private final int threads;
+    private long splitRuns; // parallelFor calls that went to the pool
+
+    public JobSystem(int threads) {
+        this.threads = Math.max(1, threads);
+        this.pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+        System.out.println("✅ Job system: " + this.threads + " thread" + (this.threads > 1 ? "s" : " (inline)"));
+    }
+
+    /** Runs task over [0, count) in chunks of at least grain items and waits for all of them. */
+    public void parallelFor(int count, int grain, RangeTask task) {
+        if (pool == null || count <= grain) {
+            task.run(0, count);
+            return;
+        }
+        splitRuns++;
+        pool.invoke(new RangeAction(task, 0, count, Math.max(1, grain)));
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /** How many {@link #parallelFor} calls were split across the pool rather than run inline. */
+    public long getSplitRuns() {
+        return splitRuns;
+    }
+
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L; // Never serialized; RecursiveAction is Serializable
+
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        RangeAction(RangeTask task, int from, int to, int grain) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                task.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle, grain), new RangeAction(task, middle, to, grain));
+        }
+    }
+}
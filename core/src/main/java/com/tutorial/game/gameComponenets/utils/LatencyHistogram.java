@@ -0,0 +1,72 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of durations in nanoseconds.
+ * Buckets are all the same width and allocated up front, so recording never allocates;
+ * anything past the last bucket lands in it and is still counted in the max.
+ * Percentiles are read as the upper edge of the bucket they fall in. Not thread-safe.
+ */
+public class LatencyHistogram {
+    private final long bucketNanos;
+    private final int[] counts;
+    private int count;
+    private long sumNanos;
+    private long maxNanos;
+
+    public LatencyHistogram(long bucketNanos, int buckets) {
+        if (bucketNanos <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("bucket width and count must be positive: " + bucketNanos + ", " + buckets);
+        }
+        this.bucketNanos = bucketNanos;
+        this.counts = new int[buckets];
+    }
+
+    /** Negative durations (clock skew, missing timestamps) are ignored. */
+    public void record(long nanos) {
+        if (nanos < 0) return;
+        int bucket = (int) Math.min(nanos / bucketNanos, counts.length - 1);
+        counts[bucket]++;
+        count++;
+        sumNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /** Duration below which the fraction p (0..1) of the samples fall; 0 when empty. */
+    public long percentile(double p) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(p * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return i == counts.length - 1 ? maxNanos : Math.min((i + 1) * bucketNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public float percentileMillis(double p) {
+        return percentile(p) / 1e6f;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public float getMeanMillis() {
+        return count == 0 ? 0f : (float) (sumNanos / (double) count / 1e6);
+    }
+
+    public float getMaxMillis() {
+        return maxNanos / 1e6f;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+}
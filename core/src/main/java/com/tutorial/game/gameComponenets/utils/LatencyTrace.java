@@ -0,0 +1,81 @@
+package com.tutorial.game.gameComponenets.utils;
+
+/**
+ * Latency of one input pipeline, from camera capture to the frame that shows the result.
+ * Every input that reaches the game logic carries three timestamps (capture, detection
+ * done, consumed by the logic); the fourth, presented, is the end of the next rendered
+ * frame. Each stage and the total go into their own {@link LatencyHistogram}.
+ * All timestamps are {@link System#nanoTime()}. Game thread only.
+ */
+public class LatencyTrace {
+    private static final long BUCKET_NANOS = 250_000; // 0.25 ms
+    private static final int BUCKETS = 2000; // Up to 500 ms
+    private static final int MAX_PENDING = 4; // Inputs consumed in one frame, waiting to be presented
+
+    private final String name;
+    private final LatencyHistogram captureToDetected = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private final LatencyHistogram detectedToConsumed = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private final LatencyHistogram consumedToPresented = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+    private final LatencyHistogram total = new LatencyHistogram(BUCKET_NANOS, BUCKETS);
+
+    private final long[] pendingCapture = new long[MAX_PENDING];
+    private final long[] pendingConsumed = new long[MAX_PENDING];
+    private int pending;
+
+    public LatencyTrace(String name) {
+        this.name = name;
+    }
+
+    /** The logic acted on an input; it counts as presented at the next {@link #presented(long)}. */
+    public void consumed(long captureNanos, long detectedNanos, long consumedNanos) {
+        captureToDetected.record(detectedNanos - captureNanos);
+        detectedToConsumed.record(consumedNanos - detectedNanos);
+        if (pending < MAX_PENDING) {
+            pendingCapture[pending] = captureNanos;
+            pendingConsumed[pending] = consumedNanos;
+            pending++;
+        }
+    }
+
+    /** A frame showing everything consumed so far has been drawn. */
+    public void presented(long presentedNanos) {
+        for (int i = 0; i < pending; i++) {
+            consumedToPresented.record(presentedNanos - pendingConsumed[i]);
+            total.record(presentedNanos - pendingCapture[i]);
+        }
+        pending = 0;
+    }
+
+    public int getCount() {
+        return total.getCount();
+    }
+
+    /** Short form for the overlay: end-to-end p50/p95/p99. */
+    public String overlayLine() {
+        return String.format("%s: %.1f/%.1f/%.1fms (%d)", name,
+            total.percentileMillis(0.5), total.percentileMillis(0.95), total.percentileMillis(0.99), total.getCount());
+    }
+
+    /** Every stage as p50/p95/p99, for the log. */
+    public String summary() {
+        return name + ": " + total.getCount() + " inputs"
+            + stage(", capture to detected ", captureToDetected)
+            + stage(", detected to logic ", detectedToConsumed)
+            + stage(", logic to presented ", consumedToPresented)
+            + stage(", end to end ", total)
+            + String.format(" (max %.1fms)", total.getMaxMillis());
+    }
+
+    private static String stage(String label, LatencyHistogram histogram) {
+        return String.format("%s%.1f/%.1f/%.1fms", label,
+            histogram.percentileMillis(0.5), histogram.percentileMillis(0.95), histogram.percentileMillis(0.99));
+    }
+
+    public void reset() {
+        captureToDetected.reset();
+        detectedToConsumed.reset();
+        consumedToPresented.reset();
+        total.reset();
+        pending = 0;
+    }
+}
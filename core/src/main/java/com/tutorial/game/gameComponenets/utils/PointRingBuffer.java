@@ -0,0 +1,105 @@
+package com.tutorial.game.gameComponenets.utils;
+
+/**
+ * Fixed-capacity ring of 2D points stored in primitive arrays.
+ * Once full, adding a point overwrites the oldest one, so appends are O(1) and never
+ * allocate. Points are indexed oldest first. Not thread-safe.
+ */
+public class PointRingBuffer {
+    private final double[] xs;
+    private final double[] ys;
+    private int start;
+    private int size;
+    private final Cursor cursor = new Cursor();
+
+    public PointRingBuffer(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        xs = new double[capacity];
+        ys = new double[capacity];
+    }
+
+    public void add(double x, double y) {
+        int index = physicalIndex(size);
+        if (size == xs.length) {
+            start = (start + 1) % xs.length;
+        } else {
+            size++;
+        }
+        xs[index] = x;
+        ys[index] = y;
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /** Copies the points of another buffer, replacing the current contents. */
+    public void set(PointRingBuffer other) {
+        if (other.size > xs.length) throw new IllegalArgumentException("buffer too small: " + xs.length);
+
+        // Linearize while copying so this buffer starts at index 0
+        int firstPart = Math.min(other.size, other.xs.length - other.start);
+        System.arraycopy(other.xs, other.start, xs, 0, firstPart);
+        System.arraycopy(other.ys, other.start, ys, 0, firstPart);
+        System.arraycopy(other.xs, 0, xs, firstPart, other.size - firstPart);
+        System.arraycopy(other.ys, 0, ys, firstPart, other.size - firstPart);
+        start = 0;
+        size = other.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return xs.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** X of the i-th point, 0 being the oldest. */
+    public double getX(int i) {
+        return xs[physicalIndex(i)];
+    }
+
+    /** Y of the i-th point, 0 being the oldest. */
+    public double getY(int i) {
+        return ys[physicalIndex(i)];
+    }
+
+    private int physicalIndex(int i) {
+        int index = start + i;
+        return index < xs.length ? index : index - xs.length;
+    }
+
+    /**
+     * Rewinds and returns this buffer's cursor. The same instance is reused on every call,
+     * so only one iteration can be in progress at a time.
+     */
+    public Cursor cursor() {
+        cursor.index = -1;
+        return cursor;
+    }
+
+    /** Walks the points oldest first without allocating. */
+    public class Cursor {
+        private int index = -1;
+
+        public boolean next() {
+            if (index + 1 >= size) return false;
+            index++;
+            return true;
+        }
+
+        public double x() {
+            return getX(index);
+        }
+
+        public double y() {
+            return getY(index);
+        }
+    }
+}
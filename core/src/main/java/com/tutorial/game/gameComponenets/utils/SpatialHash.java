@@ -0,0 +1,151 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broad phase over a fixed area.
+ * Rebuilt every tick: {@link #clear()}, then {@link #insert} each entity's box with an id
+ * (usually its index in the owning collection) and a layer bit. {@link #query} then only
+ * looks at the cells a box touches and returns the ids of entries whose boxes overlap it,
+ * edges included. Boxes outside the area are clamped into the border cells, so they are
+ * still found. Storage only grows; after warm-up nothing is allocated. Not thread-safe.
+ */
+public class SpatialHash {
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Head node of each cell's list, -1 when empty
+    private final int[] cellHead;
+
+    // Entries (one per insert)
+    private float[] entryX;
+    private float[] entryY;
+    private float[] entryRight;
+    private float[] entryTop;
+    private int[] entryId;
+    private int[] entryLayer;
+    private int[] entryStamp; // Last query that reported the entry, to skip duplicates
+    private int entryCount;
+
+    // Cell list nodes (one per cell an entry touches)
+    private int[] nodeEntry;
+    private int[] nodeNext;
+    private int nodeCount;
+
+    private int queryStamp;
+
+    public SpatialHash(float originX, float originY, float width, float height, float cellSize) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, -1);
+        growEntries(64);
+        growNodes(256);
+    }
+
+    private void growEntries(int capacity) {
+        entryX = entryX == null ? new float[capacity] : Arrays.copyOf(entryX, capacity);
+        entryY = entryY == null ? new float[capacity] : Arrays.copyOf(entryY, capacity);
+        entryRight = entryRight == null ? new float[capacity] : Arrays.copyOf(entryRight, capacity);
+        entryTop = entryTop == null ? new float[capacity] : Arrays.copyOf(entryTop, capacity);
+        entryId = entryId == null ? new int[capacity] : Arrays.copyOf(entryId, capacity);
+        entryLayer = entryLayer == null ? new int[capacity] : Arrays.copyOf(entryLayer, capacity);
+        entryStamp = entryStamp == null ? new int[capacity] : Arrays.copyOf(entryStamp, capacity);
+    }
+
+    private void growNodes(int capacity) {
+        nodeEntry = nodeEntry == null ? new int[capacity] : Arrays.copyOf(nodeEntry, capacity);
+        nodeNext = nodeNext == null ? new int[capacity] : Arrays.copyOf(nodeNext, capacity);
+    }
+
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        entryCount = 0;
+        nodeCount = 0;
+    }
+
+    /** Registers a box. The layer should be a single bit so queries can mask it. */
+    public void insert(float x, float y, float width, float height, int id, int layer) {
+        if (entryCount == entryX.length) {
+            growEntries(entryCount * 2);
+        }
+        int entry = entryCount++;
+        entryX[entry] = x;
+        entryY[entry] = y;
+        entryRight[entry] = x + width;
+        entryTop[entry] = y + height;
+        entryId[entry] = id;
+        entryLayer[entry] = layer;
+        entryStamp[entry] = queryStamp;
+
+        int minColumn = column(x);
+        int maxColumn = column(x + width);
+        int minRow = row(y);
+        int maxRow = row(y + height);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                if (nodeCount == nodeEntry.length) {
+                    growNodes(nodeCount * 2);
+                }
+                int cell = r * columns + c;
+                nodeEntry[nodeCount] = entry;
+                nodeNext[nodeCount] = cellHead[cell];
+                cellHead[cell] = nodeCount;
+                nodeCount++;
+            }
+        }
+    }
+
+    /**
+     * Adds the ids of entries on any of the layers in layerMask whose boxes overlap the given
+     * box to out (after clearing it). Returns the number of hits.
+     */
+    public int query(float x, float y, float width, float height, int layerMask, IntArray out) {
+        out.clear();
+        float right = x + width;
+        float top = y + height;
+        int stamp = ++queryStamp;
+
+        int minColumn = column(x);
+        int maxColumn = column(right);
+        int minRow = row(y);
+        int maxRow = row(top);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                for (int node = cellHead[r * columns + c]; node != -1; node = nodeNext[node]) {
+                    int entry = nodeEntry[node];
+                    if (entryStamp[entry] == stamp || (entryLayer[entry] & layerMask) == 0) continue;
+                    entryStamp[entry] = stamp;
+
+                    if (x <= entryRight[entry] && right >= entryX[entry]
+                        && y <= entryTop[entry] && top >= entryY[entry]) {
+                        out.add(entryId[entry]);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    private int column(float x) {
+        int c = (int) Math.floor((x - originX) / cellSize);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(float y) {
+        int r = (int) Math.floor((y - originY) / cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    public int size() {
+        return entryCount;
+    }
+}
@@ -0,0 +1,85 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread.
+ * Slots are allocated up front and reused: the producer {@link #claim()}s a slot, fills it
+ * and {@link #publish()}es it; the consumer {@link #peek()}s the oldest slot, reads it and
+ * {@link #release()}s it. Nothing is allocated per message. When the consumer falls behind,
+ * claim() returns null and the producer drops the message (counted in {@link #getDropped()}).
+ */
+public class SpscRing<T> {
+    public interface Factory<T> {
+        T create();
+    }
+
+    private final Object[] slots;
+    private final int mask;
+
+    // Next slot to read (written by the consumer) and next slot to fill (written by the producer)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private long producerHeadCache; // Producer's last view of head, so it rarely reads the consumer's line
+    private long consumerTailCache; // Consumer's last view of tail
+    private volatile long dropped;
+
+    public SpscRing(int capacity, Factory<T> factory) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1); // Round up to a power of two
+        slots = new Object[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = factory.create();
+        }
+        mask = size - 1;
+    }
+
+    /** Producer: the slot to fill next, or null when the queue is full. */
+    @SuppressWarnings("unchecked")
+    public T claim() {
+        long t = tail.get();
+        if (t - producerHeadCache >= slots.length) {
+            producerHeadCache = head.get();
+            if (t - producerHeadCache >= slots.length) {
+                dropped++; // Only the producer writes this
+                return null;
+            }
+        }
+        return (T) slots[(int) t & mask];
+    }
+
+    /** Producer: makes the slot from the last {@link #claim()} visible to the consumer. */
+    public void publish() {
+        tail.lazySet(tail.get() + 1);
+    }
+
+    /** Consumer: the oldest published slot, or null when the queue is empty. */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        long h = head.get();
+        if (h >= consumerTailCache) {
+            consumerTailCache = tail.get();
+            if (h >= consumerTailCache) {
+                return null;
+            }
+        }
+        return (T) slots[(int) h & mask];
+    }
+
+    /** Consumer: hands the slot from the last {@link #peek()} back to the producer. */
+    public void release() {
+        head.lazySet(head.get() + 1);
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /** Messages the producer could not queue because the consumer was behind. */
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * libGDX {@link Pool} that also counts what it hands out, for the debug overlay.
+ * {@link Pool#peak} and {@link #getFree()} cover the free list; this adds the total number
+ * of objects obtained, how many are out right now and the most that were out at once.
+ */
+public abstract class TrackedPool<T> extends Pool<T> {
+    private final String name;
+    private long obtained;
+    private long created;
+    private int active;
+    private int peakActive;
+
+    public TrackedPool(String name, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.name = name;
+    }
+
+    @Override
+    public T obtain() {
+        obtained++;
+        active++;
+        peakActive = Math.max(peakActive, active);
+        return super.obtain();
+    }
+
+    @Override
+    protected T newObject() {
+        created++;
+        return createObject();
+    }
+
+    /** Same as {@link Pool#newObject()}; only called when the free list is empty. */
+    protected abstract T createObject();
+
+    @Override
+    public void free(T object) {
+        active--;
+        super.free(object);
+    }
+
+    public long getObtained() {
+        return obtained;
+    }
+
+    /** Objects actually allocated; stays flat once the pool has warmed up. */
+    public long getCreated() {
+        return created;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getPeakActive() {
+        return peakActive;
+    }
+
+    public String getStats() {
+        return name + ": " + active + " active, " + getFree() + " free, peak " + peakActive
+            + ", " + created + " created / " + obtained + " obtained";
+    }
+}
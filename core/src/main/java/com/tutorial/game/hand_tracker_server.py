@@ -4,9 +4,28 @@ import numpy as np
 import math
 import time
 import socket
+import struct
 import threading
 import json
 
+# Binary hand frame, negotiated with PythonHandTracker at connect time:
+# magic, version, flags, gesture id, landmark count, reserved, index tip x/y, 21 landmark x/y pairs
+BINARY_HELLO = b"PROTOCOL BINARY 1"
+BINARY_ACCEPTED = b"OK BINARY 1\n"
+BINARY_MAGIC = 0x4844  # "HD"
+BINARY_VERSION = 1
+FLAG_PINCH = 1
+FLAG_INDEX_TIP = 2
+LANDMARK_COUNT = 21
+BINARY_FRAME = struct.Struct(">HBBBBH2f" + "2f" * LANDMARK_COUNT)
+
+# Gesture ids, must match PythonHandTracker.GESTURES
+GESTURE_IDS = {
+    "none": 0, "peace": 1, "point": 2, "open_hand": 3,
+    "fist": 4, "pinch": 5, "four_fingers": 6, "unknown": 7
+}
+
+
 class HandGestureServer:
     def __init__(self, host='localhost', port=12345):
         self.host = host
@@ -40,6 +59,8 @@ class HandGestureServer:
 
         self.client_socket = None
         self.client_connected = False
+        self.binary_protocol = False
+        self.landmark_values = [0.0] * (LANDMARK_COUNT * 2)
 
         print(f"Hand gesture server started on {self.host}:{self.port}")
 
@@ -86,18 +107,63 @@ class HandGestureServer:
     def calculate_distance(self, x1, y1, x2, y2):
         return math.sqrt((x2 - x1) ** 2 + (y2 - y1) ** 2)
 
+    def negotiate_protocol(self, client_socket):
+        """Switch to binary frames if the client asks for them within a second."""
+        client_socket.settimeout(1.0)
+        hello = b""
+        try:
+            while not hello.endswith(b"\n") and len(hello) < 256:
+                chunk = client_socket.recv(1)
+                if not chunk:
+                    break
+                hello += chunk
+        except socket.timeout:
+            pass
+        finally:
+            client_socket.settimeout(None)
+
+        if hello.strip() == BINARY_HELLO:
+            client_socket.sendall(BINARY_ACCEPTED)
+            return True
+        return False
+
+    def pack_binary(self, hand_data):
+        landmarks = hand_data["landmarks"][:LANDMARK_COUNT]
+        values = self.landmark_values
+        for i in range(LANDMARK_COUNT):
+            if i < len(landmarks):
+                values[2 * i] = landmarks[i]["x"]
+                values[2 * i + 1] = landmarks[i]["y"]
+            else:
+                values[2 * i] = 0.0
+                values[2 * i + 1] = 0.0
+
+        flags = 0
+        if hand_data["pinch"]:
+            flags |= FLAG_PINCH
+        if landmarks:
+            flags |= FLAG_INDEX_TIP
+        index_tip = hand_data["index_tip"]
+        return BINARY_FRAME.pack(BINARY_MAGIC, BINARY_VERSION, flags,
+                                 GESTURE_IDS.get(hand_data["gesture"], GESTURE_IDS["unknown"]),
+                                 len(landmarks), 0, index_tip["x"], index_tip["y"], *values)
+
     def send_data(self, hand_data):
         if self.client_connected and self.client_socket:
             try:
-                data_str = json.dumps(hand_data)
-                self.client_socket.send((data_str + '\n').encode())
+                if self.binary_protocol:
+                    self.client_socket.sendall(self.pack_binary(hand_data))
+                else:
+                    data_str = json.dumps(hand_data)
+                    self.client_socket.send((data_str + '\n').encode())
             except:
                 self.client_connected = False
 
     def handle_client(self, client_socket):
         self.client_socket = client_socket
+        self.binary_protocol = self.negotiate_protocol(client_socket)
         self.client_connected = True
-        print("Java client connected!")
+        print("Java client connected! (" + ("binary" if self.binary_protocol else "JSON") + " protocol)")
 
         try:
             while self.running and self.client_connected:
@@ -0,0 +1,277 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Writes and reads the labeled stroke set in src/test/resources/spells. Strokes are index
+ * fingertip paths the way the hand tracker reports them: camera pixels, about 30 samples a
+ * second at an uneven speed, with the shape rotated, stretched, rounded at the corners,
+ * left open or overshot, and jittered. Besides the four spells there are near misses
+ * labeled none (a line, a V, a U, an open arc, a Z and an S) that must not cast anything.
+ * A fixed seed makes the file identical on every run.
+ * Format: one stroke per line, the label then x,y pairs; lines starting with # are comments.
+ * Usage: SampleStrokes outputFile
+ */
+public class SampleStrokes {
+    public static final String RESOURCE = "spells/labeled_strokes.txt";
+
+    private static final long SEED = 2024;
+    private static final int PER_SPELL = 30;
+    private static final int PER_NEAR_MISS = 10;
+    private static final double SAMPLE_RATE = 30;
+    private static final String[] NEAR_MISSES = {"line", "v", "u", "arc", "z", "s"};
+
+    public static final class Stroke {
+        public final String label;
+        public final float[] x;
+        public final float[] y;
+
+        Stroke(String label, float[] x, float[] y) {
+            this.label = label;
+            this.x = x;
+            this.y = y;
+        }
+
+        /** The SpellRecognizer constant the stroke should be recognized as. */
+        public int expectedSpell() {
+            for (int spell = SpellRecognizer.SPELL_SQUARE; spell <= SpellRecognizer.SPELL_CROSS; spell++) {
+                if (SpellRecognizer.getName(spell).equals(label)) return spell;
+            }
+            return SpellRecognizer.SPELL_NONE;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: SampleStrokes outputFile");
+            System.exit(2);
+        }
+        File file = new File(args[0]);
+        file.getParentFile().mkdirs();
+
+        Random random = new Random(SEED);
+        int strokes = 0;
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("# Generated by SampleStrokes; label then x,y fingertip positions in camera pixels");
+            for (int spell = SpellRecognizer.SPELL_SQUARE; spell <= SpellRecognizer.SPELL_CROSS; spell++) {
+                out.println("# " + SpellRecognizer.getName(spell));
+                for (int i = 0; i < PER_SPELL; i++) {
+                    write(out, SpellRecognizer.getName(spell), draw(spellShape(spell, random), random));
+                    strokes++;
+                }
+            }
+            for (String nearMiss : NEAR_MISSES) {
+                out.println("# near miss: " + nearMiss);
+                for (int i = 0; i < PER_NEAR_MISS; i++) {
+                    write(out, SpellRecognizer.getName(SpellRecognizer.SPELL_NONE), draw(nearMissShape(nearMiss, random), random));
+                    strokes++;
+                }
+            }
+        }
+        System.out.println("✅ " + strokes + " strokes in " + file.getPath());
+    }
+
+    private static void write(PrintWriter out, String label, double[][] points) {
+        StringBuilder line = new StringBuilder(label);
+        for (double[] point : points) {
+            line.append(String.format(Locale.ROOT, " %.1f,%.1f", point[0], point[1]));
+        }
+        out.println(line);
+    }
+
+    // Outlines in a unit box, y down like the camera, starting anywhere and going either way
+    private static double[][] spellShape(int spell, Random random) {
+        switch (spell) {
+            case SpellRecognizer.SPELL_SQUARE:
+                return closedPolygon(new double[][]{{0, 0}, {1, 0}, {1, 1}, {0, 1}}, random);
+            case SpellRecognizer.SPELL_CIRCLE:
+                return arc(2 * Math.PI * (0.93 + random.nextDouble() * 0.14), random);
+            case SpellRecognizer.SPELL_TRIANGLE:
+                return closedPolygon(new double[][]{{0.5 + (random.nextDouble() - 0.5) * 0.3, 0}, {1, 1}, {0, 1}}, random);
+            default:
+                // One-stroke cross: diagonal, side, diagonal, in any of its four mirror images
+                double[][] cross = {{0, 0}, {1, 1}, {1, 0}, {0, 1}};
+                boolean flipX = random.nextBoolean();
+                boolean flipY = random.nextBoolean();
+                for (double[] point : cross) {
+                    if (flipX) point[0] = 1 - point[0];
+                    if (flipY) point[1] = 1 - point[1];
+                }
+                return random.nextBoolean() ? cross : reverse(cross);
+        }
+    }
+
+    private static double[][] nearMissShape(String kind, Random random) {
+        double[][] shape;
+        switch (kind) {
+            case "line":
+                shape = new double[][]{{0, 0.5 + (random.nextDouble() - 0.5) * 0.4}, {1, 0.5}};
+                break;
+            case "v":
+                shape = new double[][]{{0, 0}, {0.5, 1}, {1, 0}};
+                break;
+            case "u":
+                shape = new double[][]{{0, 0}, {0, 1}, {1, 1}, {1, 0}};
+                break;
+            case "arc":
+                return arc(2 * Math.PI * (0.55 + random.nextDouble() * 0.15), random);
+            case "z":
+                shape = new double[][]{{0, 0}, {1, 0}, {0, 1}, {1, 1}};
+                break;
+            default:
+                shape = new double[33][];
+                for (int i = 0; i <= 32; i++) {
+                    double t = i / 32.0;
+                    shape[i] = new double[]{0.5 + 0.5 * Math.sin(t * 2 * Math.PI), t};
+                }
+                break;
+        }
+        return random.nextBoolean() ? shape : reverse(shape);
+    }
+
+    private static double[][] closedPolygon(double[][] corners, Random random) {
+        int n = corners.length;
+        int start = random.nextInt(n);
+        boolean reversed = random.nextBoolean();
+        double[][] outline = new double[n + 1][];
+        for (int i = 0; i <= n; i++) {
+            int k = reversed ? start - i : start + i;
+            outline[i] = corners[((k % n) + n) % n].clone();
+        }
+        return outline;
+    }
+
+    private static double[][] arc(double sweep, Random random) {
+        double start = random.nextDouble() * 2 * Math.PI;
+        double direction = random.nextBoolean() ? 1 : -1;
+        double[][] points = new double[49][];
+        for (int i = 0; i < points.length; i++) {
+            double angle = start + direction * sweep * i / (points.length - 1);
+            points[i] = new double[]{0.5 + 0.5 * Math.cos(angle), 0.5 + 0.5 * Math.sin(angle)};
+        }
+        return points;
+    }
+
+    private static double[][] reverse(double[][] points) {
+        double[][] reversed = new double[points.length][];
+        for (int i = 0; i < points.length; i++) {
+            reversed[i] = points[points.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    // What a hand makes of an outline: size, stretch, tilt, sloppy corners and ends, tracking jitter
+    private static double[][] draw(double[][] outline, Random random) {
+        if (outline.length <= 5 && random.nextBoolean()) {
+            outline = roundCorners(outline);
+        }
+        outline = adjustEnd(outline, (random.nextDouble() - 0.5) * 0.12);
+
+        double size = 120 + random.nextDouble() * 140;
+        double aspect = 0.75 + random.nextDouble() * 0.5;
+        double tilt = Math.toRadians((random.nextDouble() - 0.5) * 30);
+        double centerX = 320 + (random.nextDouble() - 0.5) * 200;
+        double centerY = 240 + (random.nextDouble() - 0.5) * 120;
+        double jitter = 1 + random.nextDouble() * 2.5;
+        double speed = 450 + random.nextDouble() * 350; // Pixels per second
+        double wobble = random.nextDouble() * 2 * Math.PI;
+
+        double cos = Math.cos(tilt);
+        double sin = Math.sin(tilt);
+        double[][] pixels = new double[outline.length][];
+        for (int i = 0; i < outline.length; i++) {
+            double x = (outline[i][0] - 0.5) * size * aspect;
+            double y = (outline[i][1] - 0.5) * size / aspect;
+            pixels[i] = new double[]{centerX + x * cos - y * sin, centerY + x * sin + y * cos};
+        }
+
+        // Walk the outline in time steps; the hand speeds up and slows down along the way
+        double length = 0;
+        for (int i = 1; i < pixels.length; i++) {
+            length += distance(pixels[i - 1], pixels[i]);
+        }
+        List<double[]> samples = new ArrayList<>();
+        double travelled = 0;
+        while (true) {
+            double[] point = pointAt(pixels, Math.min(travelled, length));
+            samples.add(new double[]{point[0] + random.nextGaussian() * jitter, point[1] + random.nextGaussian() * jitter});
+            if (travelled >= length) break;
+            double pace = 1 + 0.35 * Math.sin(wobble + 2 * Math.PI * travelled / length * 1.5);
+            travelled += speed * pace / SAMPLE_RATE;
+        }
+        return samples.toArray(new double[0][]);
+    }
+
+    // Cuts every inner corner, so corners come out rounded like a quick hand draws them
+    private static double[][] roundCorners(double[][] outline) {
+        List<double[]> rounded = new ArrayList<>();
+        rounded.add(outline[0]);
+        for (int i = 1; i < outline.length - 1; i++) {
+            rounded.add(lerp(outline[i - 1], outline[i], 0.85));
+            rounded.add(lerp(outline[i], outline[i + 1], 0.15));
+        }
+        rounded.add(outline[outline.length - 1]);
+        return rounded.toArray(new double[0][]);
+    }
+
+    // Stops short of the last point (negative) or carries on past it (positive), by a fraction of the last segment
+    private static double[][] adjustEnd(double[][] outline, double amount) {
+        double[][] adjusted = outline.clone();
+        int last = adjusted.length - 1;
+        adjusted[last] = lerp(adjusted[last - 1], adjusted[last], 1 + amount * 4);
+        return adjusted;
+    }
+
+    private static double[] pointAt(double[][] path, double along) {
+        for (int i = 1; i < path.length; i++) {
+            double segment = distance(path[i - 1], path[i]);
+            if (along <= segment || i == path.length - 1) {
+                return lerp(path[i - 1], path[i], segment > 0 ? Math.min(1, along / segment) : 0);
+            }
+            along -= segment;
+        }
+        return path[0];
+    }
+
+    private static double[] lerp(double[] a, double[] b, double t) {
+        return new double[]{a[0] + (b[0] - a[0]) * t, a[1] + (b[1] - a[1]) * t};
+    }
+
+    private static double distance(double[] a, double[] b) {
+        return Math.hypot(b[0] - a[0], b[1] - a[1]);
+    }
+
+    /** Reads the stroke set from the classpath. */
+    public static List<Stroke> load() throws IOException {
+        InputStream in = SampleStrokes.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) throw new IOException(RESOURCE + " is not on the classpath");
+
+        List<Stroke> strokes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] fields = line.split(" ");
+                float[] x = new float[fields.length - 1];
+                float[] y = new float[fields.length - 1];
+                for (int i = 1; i < fields.length; i++) {
+                    int comma = fields[i].indexOf(',');
+                    x[i - 1] = Float.parseFloat(fields[i].substring(0, comma));
+                    y[i - 1] = Float.parseFloat(fields[i].substring(comma + 1));
+                }
+                strokes.add(new Stroke(fields[0], x, y));
+            }
+        }
+        return strokes;
+    }
+}
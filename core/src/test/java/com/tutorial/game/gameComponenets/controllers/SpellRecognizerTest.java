@@ -0,0 +1,93 @@
+package com.tutorial.game.gameComponenets.controllers;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Accuracy of {@link SpellRecognizer} on the labeled stroke set from {@link SampleStrokes}:
+ * at least 95% of all strokes and 90% of every label, near misses included, must come out
+ * as labeled. Timing and allocation are SpellRecognizerBenchmark's job.
+ */
+public class SpellRecognizerTest {
+    private static final double MIN_ACCURACY = 0.95;
+    private static final double MIN_LABEL_ACCURACY = 0.90;
+
+    private static List<SampleStrokes.Stroke> strokes;
+
+    @BeforeClass
+    public static void loadStrokes() throws IOException {
+        strokes = SampleStrokes.load();
+    }
+
+    @Test
+    public void recognizesLabeledStrokes() {
+        SpellRecognizer recognizer = new SpellRecognizer();
+        int labels = SpellRecognizer.SPELL_CROSS + 2; // Every spell, then none
+        int[] correct = new int[labels];
+        int[] total = new int[labels];
+        StringBuilder misses = new StringBuilder();
+
+        for (int i = 0; i < strokes.size(); i++) {
+            SampleStrokes.Stroke stroke = strokes.get(i);
+            int spell = recognize(recognizer, stroke);
+            int label = stroke.expectedSpell() == SpellRecognizer.SPELL_NONE ? labels - 1 : stroke.expectedSpell();
+            total[label]++;
+            if (spell == stroke.expectedSpell()) {
+                correct[label]++;
+            } else {
+                misses.append(String.format("%n  stroke %d: %s recognized as %s (%.2f)", i, stroke.label,
+                    SpellRecognizer.getName(spell), recognizer.getLastScore()));
+            }
+        }
+
+        int allCorrect = 0;
+        for (int label = 0; label < labels; label++) {
+            String name = SpellRecognizer.getName(label == labels - 1 ? SpellRecognizer.SPELL_NONE : label);
+            assertTrue("No strokes labeled " + name, total[label] > 0);
+            assertTrue(String.format("%s: %d/%d correct%s", name, correct[label], total[label], misses),
+                correct[label] >= MIN_LABEL_ACCURACY * total[label]);
+            allCorrect += correct[label];
+        }
+        assertTrue(String.format("%d/%d correct%s", allCorrect, strokes.size(), misses),
+            allCorrect >= MIN_ACCURACY * strokes.size());
+    }
+
+    @Test
+    public void feedingPointsAgainGivesTheSameResult() {
+        // One recognizer serves every stroke, so nothing may leak from one stroke into the next
+        SpellRecognizer reused = new SpellRecognizer();
+        for (SampleStrokes.Stroke stroke : strokes) {
+            recognize(reused, stroke);
+        }
+        for (SampleStrokes.Stroke stroke : strokes) {
+            int spell = recognize(reused, stroke);
+            double score = reused.getLastScore();
+            SpellRecognizer fresh = new SpellRecognizer();
+            assertEquals(recognize(fresh, stroke), spell);
+            assertEquals(fresh.getLastScore(), score, 0.0);
+        }
+    }
+
+    @Test
+    public void tooShortStrokeIsNone() {
+        SpellRecognizer recognizer = new SpellRecognizer();
+        recognizer.begin();
+        recognizer.addPoint(100, 100);
+        recognizer.addPoint(140, 100);
+        assertEquals(SpellRecognizer.SPELL_NONE, recognizer.finish());
+    }
+
+    private static int recognize(SpellRecognizer recognizer, SampleStrokes.Stroke stroke) {
+        recognizer.begin();
+        for (int i = 0; i < stroke.x.length; i++) {
+            recognizer.addPoint(stroke.x[i], stroke.y[i]);
+        }
+        return recognizer.finish();
+    }
+}
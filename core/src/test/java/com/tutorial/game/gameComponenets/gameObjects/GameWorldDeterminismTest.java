@@ -0,0 +1,73 @@
+package com.tutorial.game.gameComponenets.gameObjects;
+
+import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The same seed must play out identically whether the projectile pass runs inline or split
+ * across a pool. A real game never has enough swirls to split, so both worlds are flooded
+ * with the same extra volleys, well past ProjectileSystem's grain, in bands that miss the
+ * player. Every tick compares {@link GameWorld#checksum()}, which covers every swirl.
+ */
+public class GameWorldDeterminismTest {
+    private static final long SEED = 19;
+    private static final int TICKS = 900; // 15 s: enemies arrive and fire, and flooded volleys get culled
+    private static final int START_VOLLEYS = 1024;
+    private static final int VOLLEYS_PER_TICK = 6;
+
+    @Test
+    public void oneThreadAndFourThreadsGiveTheSameChecksums() {
+        GameAssets assets = new GameAssets(); // Not loaded: untextured sprites, no GL needed
+        JobSystem inline = new JobSystem(1);
+        JobSystem pool = new JobSystem(4);
+        try {
+            GameWorld expected = new GameWorld(assets, SEED, inline);
+            GameWorld actual = new GameWorld(assets, SEED, pool);
+            Random floodExpected = new Random(SEED);
+            Random floodActual = new Random(SEED);
+            flood(expected, floodExpected, START_VOLLEYS);
+            flood(actual, floodActual, START_VOLLEYS);
+
+            int mostProjectiles = 0;
+            for (int tick = 1; tick <= TICKS; tick++) {
+                flood(expected, floodExpected, VOLLEYS_PER_TICK);
+                flood(actual, floodActual, VOLLEYS_PER_TICK);
+                expected.savePreviousPositions();
+                actual.savePreviousPositions();
+                expected.step(GameScreen.STEP);
+                actual.step(GameScreen.STEP);
+                assertEquals("tick " + tick, expected.checksum(), actual.checksum());
+                mostProjectiles = Math.max(mostProjectiles, actual.getEnemyProjectiles().size());
+            }
+
+            assertTrue("never above the grain: " + mostProjectiles, mostProjectiles > 2048);
+            assertTrue("the pool was never used", pool.getSplitRuns() > 0);
+            assertEquals(0, inline.getSplitRuns());
+            assertEquals(TICKS, actual.getTicks());
+        } finally {
+            pool.dispose();
+            inline.dispose();
+        }
+    }
+
+    // Volleys in bands above and below, or left and right of, the player, so none hit it
+    private static void flood(GameWorld world, Random random, int volleys) {
+        for (int v = 0; v < volleys; v++) {
+            Direction direction = Direction.VALUES[random.nextInt(4)];
+            float along = 3 + random.nextFloat() * 24;
+            float across = random.nextBoolean() ? 2 + random.nextFloat() * 7 : 21 + random.nextFloat() * 5;
+            if (direction.dx != 0) {
+                world.addIceAttack(along, across, direction);
+            } else {
+                world.addIceAttack(across, along, direction);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.tutorial.game.gameComponenets.utils;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link SpatialHash} must report exactly what testing every box against every other would:
+ * the same ids, each once, on the requested layers. Boxes are seeded random over GameWorld's
+ * 30x30 arena and a margin past it, from specks to several cells wide, plus boxes that only
+ * touch at an edge.
+ */
+public class SpatialHashTest {
+    private static final int[] LAYERS = {1, 1 << 1, 1 << 2};
+
+    @Test
+    public void queriesMatchBruteForce() {
+        Random random = new Random(16);
+        SpatialHash grid = new SpatialHash(0, 0, 30, 30, 2);
+        IntArray hits = new IntArray();
+
+        for (int round = 0; round < 50; round++) {
+            // Rebuilt every round, like every tick, so clear() is covered too
+            int count = 1 + random.nextInt(400);
+            float[] x = new float[count];
+            float[] y = new float[count];
+            float[] w = new float[count];
+            float[] h = new float[count];
+            int[] layer = new int[count];
+            grid.clear();
+            for (int i = 0; i < count; i++) {
+                x[i] = -5 + random.nextFloat() * 40;
+                y[i] = -5 + random.nextFloat() * 40;
+                w[i] = random.nextInt(10) == 0 ? random.nextFloat() * 9 : random.nextFloat() * 3;
+                h[i] = random.nextInt(10) == 0 ? random.nextFloat() * 9 : random.nextFloat() * 3;
+                layer[i] = LAYERS[random.nextInt(LAYERS.length)];
+                grid.insert(x[i], y[i], w[i], h[i], i, layer[i]);
+            }
+            assertEquals(count, grid.size());
+
+            for (int q = 0; q < 100; q++) {
+                float qx, qy;
+                float qw = random.nextFloat() * 4;
+                float qh = random.nextFloat() * 4;
+                if (q % 4 == 0) {
+                    // Exactly touching the right edge of an existing box
+                    int other = random.nextInt(count);
+                    qx = x[other] + w[other];
+                    qy = y[other];
+                } else {
+                    qx = -5 + random.nextFloat() * 40;
+                    qy = -5 + random.nextFloat() * 40;
+                }
+                int mask = random.nextInt(1 << LAYERS.length);
+
+                IntArray expected = new IntArray();
+                for (int i = 0; i < count; i++) {
+                    if ((layer[i] & mask) != 0 && qx <= x[i] + w[i] && qx + qw >= x[i]
+                        && qy <= y[i] + h[i] && qy + qh >= y[i]) {
+                        expected.add(i);
+                    }
+                }
+                int found = grid.query(qx, qy, qw, qh, mask, hits);
+                assertEquals(hits.size, found);
+                hits.sort();
+                assertArrayEquals("round " + round + ", query " + q, expected.toArray(), hits.toArray());
+            }
+        }
+    }
+}
@@ -1,14 +1,138 @@
 import cv2
 import mediapipe as mp
+import numpy as np
+import mmap
+import os
 import socket
 import select
+import struct
+import tempfile
+import time
 
 # --- CONFIGURATION ---
 JAVA_IP = "127.0.0.1"
 JAVA_PORT = 5005       # Port to SEND gestures TO Java
 PYTHON_PORT = 5006     # Port to LISTEN for commands FROM Java
+# Frame ring written by Java (FrameRingPublisher); we fall back to the camera if it is missing
+FRAME_RING_PATH = os.path.join(tempfile.gettempdir(), "tutorialgame_frames.bin")
+KEEPALIVE_S = 0.2      # Repeat the current sign this often while it is held (Java times out at 0.5s)
 # ---------------------
 
+
+class SignMessage:
+    """Hand-sign datagram for HandSignController, sent when the sign changes plus keepalives."""
+    # magic "HS", version, gesture, sequence, capture time (epoch ms), confidence (1/10000),
+    # capture-to-send delay (ms), flags, reserved; big-endian, 24 bytes
+    FORMAT = struct.Struct(">HBBIqHHHH")
+    MAGIC = 0x4853
+    VERSION = 1
+    GESTURES = {"NONE": 0, "up": 1, "down": 2, "left": 3, "right": 4}
+    FLAG_KEEPALIVE = 1
+
+    def __init__(self):
+        self.seq = 0
+        self.last_gesture = None
+        self.last_send = 0.0
+
+    def reset(self):
+        """New casting session: Java restarts its sequence tracking on START too."""
+        self.seq = 0
+        self.last_gesture = None
+
+    def maybe_send(self, sock, address, sign, confidence, capture_ms):
+        """Sends if the sign changed or the keepalive is due. Returns True if a datagram went out."""
+        now = time.time()
+        gesture = self.GESTURES.get(sign, 0)
+        changed = gesture != self.last_gesture
+        if not changed and now - self.last_send < KEEPALIVE_S:
+            return False
+
+        self.seq = (self.seq + 1) & 0xFFFFFFFF
+        delay_ms = max(0, min(0xFFFF, int(now * 1000) - capture_ms))
+        flags = 0 if changed else self.FLAG_KEEPALIVE
+        packet = self.FORMAT.pack(self.MAGIC, self.VERSION, gesture, self.seq, capture_ms,
+                                  int(max(0.0, min(1.0, confidence)) * 10000), delay_ms, flags, 0)
+        sock.sendto(packet, address)
+        self.last_gesture = gesture
+        self.last_send = now
+        return True
+
+
+class FrameRing:
+    """Reads camera frames that the game publishes into a memory-mapped ring file."""
+    MAGIC = 0x54474652  # "TGFR"
+    VERSION = 1
+    HEADER = struct.Struct("<8i")
+    HEADER_SIZE = 64
+    SLOT_HEADER = struct.Struct("<3q")
+    SLOT_HEADER_SIZE = 32
+    WRITE_SEQUENCE = struct.Struct("<q")
+    WRITE_SEQUENCE_OFFSET = 32
+
+    def __init__(self, path):
+        self.file = open(path, "rb")
+        self.mm = mmap.mmap(self.file.fileno(), 0, access=mmap.ACCESS_READ)
+        magic, version, self.slots, self.width, self.height, self.channels, self.slot_size, _ = \
+            self.HEADER.unpack_from(self.mm, 0)
+        if magic != self.MAGIC or version != self.VERSION:
+            self.close()
+            raise ValueError("Not a frame ring file: " + path)
+        self.frame_bytes = self.width * self.height * self.channels
+        self.last_seq = 0
+        self.dropped = 0
+        self.last_capture_ms = 0
+
+    def read(self):
+        """Returns (success, frame) like cv2.VideoCapture.read(); no new frame counts as failure."""
+        seq = self.WRITE_SEQUENCE.unpack_from(self.mm, self.WRITE_SEQUENCE_OFFSET)[0]
+        if seq == 0 or seq == self.last_seq:
+            return False, None
+
+        base = self.HEADER_SIZE + (seq % self.slots) * self.slot_size
+        begin, end, capture_ms = self.SLOT_HEADER.unpack_from(self.mm, base)
+        if begin != seq or end != seq:
+            return False, None  # Being written right now
+
+        frame = np.frombuffer(self.mm, dtype=np.uint8, count=self.frame_bytes,
+                              offset=base + self.SLOT_HEADER_SIZE)
+        frame = frame.reshape(self.height, self.width, self.channels).copy()
+
+        # Java lapped us while we were copying
+        if self.SLOT_HEADER.unpack_from(self.mm, base)[0] != seq:
+            return False, None
+
+        if self.last_seq and seq > self.last_seq + 1:
+            self.dropped += seq - self.last_seq - 1
+        self.last_seq = seq
+        self.last_capture_ms = capture_ms  # Java's currentTimeMillis when it grabbed the frame
+        return True, frame
+
+    def isOpened(self):
+        return self.mm is not None
+
+    def release(self):
+        print(f"Frame ring closed ({self.dropped} frames dropped)")
+        self.close()
+
+    def close(self):
+        if self.mm is not None:
+            self.mm.close()
+            self.mm = None
+        self.file.close()
+
+
+def open_frame_source():
+    """Prefer the game's frame ring so we never fight Java for the camera."""
+    if os.path.exists(FRAME_RING_PATH):
+        try:
+            ring = FrameRing(FRAME_RING_PATH)
+            print(f"📼 Reading frames from {FRAME_RING_PATH}")
+            return ring
+        except (ValueError, OSError) as e:
+            print(f"Frame ring unavailable ({e}), opening camera instead")
+    return cv2.VideoCapture(0)
+
+
 # 1. Setup UDP Socket for sending (Gestures)
 sock_send = socket.socket(socket.AF_INET, socket.SOCK_DGRAM)
 
@@ -24,6 +148,7 @@ mp_draw = mp.solutions.drawing_utils
 
 cap = None
 is_active = False
+sign_message = SignMessage()
 
 print(f"💤 Hand Engine Waiting... (Listening on Port {PYTHON_PORT})")
 
@@ -52,13 +177,14 @@ while True:
 
             if command == "START":
                 if not is_active:
-                    print("🟢 Java said START. Opening Camera...")
-                    cap = cv2.VideoCapture(0)
+                    print("🟢 Java said START. Opening frame source...")
+                    cap = open_frame_source()
+                    sign_message.reset()
                     is_active = True
 
             elif command == "STOP":
                 if is_active:
-                    print("🔴 Java said STOP. Releasing Camera...")
+                    print("🔴 Java said STOP. Releasing frame source...")
                     is_active = False
                     if cap:
                         cap.release()
@@ -71,13 +197,20 @@ while True:
     if is_active and cap is not None and cap.isOpened():
         success, img = cap.read()
         if success:
+            if isinstance(cap, FrameRing):
+                capture_ms = cap.last_capture_ms
+            else:
+                capture_ms = int(time.time() * 1000)
             img = cv2.flip(img, 1)
             img_rgb = cv2.cvtColor(img, cv2.COLOR_BGR2RGB)
             results = hands.process(img_rgb)
 
             current_sign = "NONE"
+            confidence = 0.0
 
             if results.multi_hand_landmarks:
+                if results.multi_handedness:
+                    confidence = results.multi_handedness[0].classification[0].score
                 for hand_lms in results.multi_hand_landmarks:
                     mp_draw.draw_landmarks(img, hand_lms, mp_hands.HAND_CONNECTIONS)
                     fingers = count_fingers(hand_lms.landmark)
@@ -88,13 +221,16 @@ while True:
                     elif total_fingers == 5: current_sign = "left"
                     elif fingers[0] == 1 and total_fingers == 1: current_sign = "right"
 
-            # Send result to Java
+            # Send result to Java: on change (NONE included, so Java drops the sign at once) and as keepalive
+            sign_message.maybe_send(sock_send, (JAVA_IP, JAVA_PORT), current_sign, confidence, capture_ms)
             if current_sign != "NONE":
-                sock_send.sendto(current_sign.encode(), (JAVA_IP, JAVA_PORT))
                 cv2.putText(img, f"SENT: {current_sign.upper()}", (10, 50), cv2.FONT_HERSHEY_SIMPLEX, 1, (0, 255, 0), 2)
 
             cv2.imshow("Hand Engine (Active)", img)
             cv2.waitKey(1)
+        elif isinstance(cap, FrameRing):
+            # No new frame from the game yet
+            cv2.waitKey(5)
 
     # If not active, just wait a bit to save CPU
     else:
@@ -0,0 +1,72 @@
+package com.tutorial.game.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches the gameplay simulation without a window (libGDX headless backend).
+ * Options:
+ *   --seed N             first seed; game i uses seed + i (default 1)
+ *   --games N            games to simulate (default 10)
+ *   --ticks N            step limit per game, at 60 steps per simulated second (default 36000)
+ *   --threads N          job threads for the projectile pass (default 1)
+ *   --compare-threads N  also run every game on N threads and fail if any tick differs;
+ *                        lowers the grain to one volley unless --grain is given
+ *   --grain N            projectiles per job in the projectile pass (default: ProjectileSystem's)
+ *   --expect H,H,...     final checksum of each game, in hex as printed; fail on any other
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SimulationRunner.Options options = new SimulationRunner.Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--seed":
+                    options.seed = Long.parseLong(value);
+                    break;
+                case "--games":
+                    options.games = Integer.parseInt(value);
+                    break;
+                case "--ticks":
+                    options.maxTicks = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    options.threads = Integer.parseInt(value);
+                    break;
+                case "--compare-threads":
+                    options.compareThreads = Integer.parseInt(value);
+                    break;
+                case "--grain":
+                    options.grain = Integer.parseInt(value);
+                    break;
+                case "--expect":
+                    String[] checksums = value.split(",");
+                    options.expected = new long[checksums.length];
+                    for (int c = 0; c < checksums.length; c++) {
+                        options.expected[c] = Long.parseUnsignedLong(checksums[c].trim(), 16);
+                    }
+                    break;
+                default:
+                    usage("Unknown option " + arg);
+            }
+        }
+        if (options.expected != null && options.expected.length != options.games) {
+            usage("--expect needs one checksum per game, got " + options.expected.length + " for " + options.games);
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // Everything runs in create(); no render loop
+        new HeadlessApplication(new SimulationRunner(options), configuration);
+    }
+
+    private static void usage(String message) {
+        System.err.println("❌ " + message);
+        System.err.println("Usage: [--seed N] [--games N] [--ticks N] [--threads N] [--compare-threads N] [--grain N]"
+            + " [--expect H,H,...]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,165 @@
+package com.tutorial.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.tutorial.game.gameComponenets.gameObjects.Direction;
+import com.tutorial.game.gameComponenets.gameObjects.GameWorld;
+import com.tutorial.game.gameComponenets.screens.GameScreen;
+import com.tutorial.game.gameComponenets.utils.GameAssets;
+import com.tutorial.game.gameComponenets.utils.JobSystem;
+
+/**
+ * Plays whole games of {@link GameWorld} as fast as the CPU allows and reports how long
+ * the bot survived, its score and the simulation throughput.
+ * The bot wanders at keyboard speed and casts every scroll it picks up straight away, in
+ * a random direction, as if the hand sign always succeeded. Its choices come from its own
+ * seeded random, so a seed replays the same games.
+ * A game has far fewer swirls than ProjectileSystem's update grain, so comparing thread
+ * counts lowers the grain to one volley; otherwise both worlds would run inline. With
+ * expected checksums the run fails unless every game ends on its own.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+    static class Options {
+        long seed = 1;
+        int games = 10;
+        int maxTicks = 36000; // Ten simulated minutes
+        int threads = 1;
+        int compareThreads = 0;
+        int grain = 0;           // Projectiles per job; 0 keeps ProjectileSystem's default
+        long[] expected = null;  // Final checksum per game, for regression runs
+    }
+
+    private static final float PLAYER_SPEED = 8f; // Same as GameScreen's keyboard movement
+    private static final long BOT_SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final int COMPARE_GRAIN = 4; // One volley per job
+
+    private final Options options;
+
+    SimulationRunner(Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        GameAssets assets = new GameAssets(); // Not loaded: untextured sprites, no GL needed
+        JobSystem jobs = new JobSystem(options.threads);
+        JobSystem compareJobs = options.compareThreads > 0 ? new JobSystem(options.compareThreads) : null;
+        int grain = options.grain == 0 && compareJobs != null ? COMPARE_GRAIN : options.grain;
+
+        boolean diverged = false;
+        boolean mismatched = false;
+        long totalTicks = 0;
+        float totalSurvival = 0;
+        long totalScore = 0;
+        long start = System.nanoTime();
+
+        for (int g = 0; g < options.games && !diverged; g++) {
+            long seed = options.seed + g;
+            GameWorld world = new GameWorld(assets, seed, jobs);
+            Bot bot = new Bot(seed);
+            if (grain > 0) {
+                world.getEnemyProjectiles().setUpdateGrain(grain);
+            }
+
+            GameWorld other = null;
+            Bot otherBot = null;
+            if (compareJobs != null) {
+                other = new GameWorld(assets, seed, compareJobs);
+                otherBot = new Bot(seed);
+                if (grain > 0) {
+                    other.getEnemyProjectiles().setUpdateGrain(grain);
+                }
+            }
+
+            while (!world.isGameOver() && world.getTicks() < options.maxTicks) {
+                bot.step(world);
+                if (other != null) {
+                    otherBot.step(other);
+                    if (world.checksum() != other.checksum()) {
+                        System.err.println("❌ Seed " + seed + " diverged at tick " + world.getTicks()
+                            + " between " + jobs.getThreads() + " and " + compareJobs.getThreads() + " threads");
+                        diverged = true;
+                        break;
+                    }
+                }
+            }
+
+            totalTicks += world.getTicks();
+            totalSurvival += world.getSurvivalTime();
+            totalScore += world.getScore();
+            System.out.println(String.format("Seed %d: survived %.1fs, score %d, %d ticks%s, checksum %016x",
+                seed, world.getSurvivalTime(), world.getScore(), world.getTicks(),
+                world.isGameOver() ? "" : " (tick limit)", world.checksum()));
+            if (options.expected != null && !diverged && world.checksum() != options.expected[g]) {
+                System.err.println(String.format("❌ Seed %d ended on checksum %016x, expected %016x",
+                    seed, world.checksum(), options.expected[g]));
+                mismatched = true;
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        int games = Math.max(1, options.games);
+        System.out.println(String.format("📤 %d games, mean survival %.1fs, mean score %d",
+            options.games, totalSurvival / games, totalScore / games));
+        System.out.println(String.format("📤 %d ticks in %.2fs: %.0f ticks/s%s", totalTicks, seconds, totalTicks / seconds,
+            compareJobs != null ? " (two worlds per tick while comparing)" : ""));
+        if (compareJobs != null && !diverged) {
+            long split = jobs.getSplitRuns() + compareJobs.getSplitRuns();
+            if (split == 0 && Math.max(jobs.getThreads(), compareJobs.getThreads()) > 1) {
+                // Every pass ran inline on both sides, so the thread counts were never compared
+                System.err.println("❌ No projectile pass was split across threads; lower --grain");
+                diverged = true;
+            } else {
+                System.out.println("✅ " + jobs.getThreads() + " and " + compareJobs.getThreads()
+                    + " threads agreed on every tick (" + split + " projectile passes split, grain " + grain + ")");
+            }
+        }
+        if (options.expected != null && !diverged && !mismatched) {
+            System.out.println("✅ Every game ended on its expected checksum");
+        }
+
+        jobs.dispose();
+        if (compareJobs != null) {
+            compareJobs.dispose();
+        }
+        if (diverged || mismatched) {
+            System.exit(1);
+        }
+        Gdx.app.exit();
+    }
+
+    // Stand-in for the player's input, driven by its own seeded random
+    private static class Bot {
+        private final RandomXS128 random;
+        private Direction heading;
+        private int ticksLeft;
+
+        Bot(long seed) {
+            random = new RandomXS128(seed ^ BOT_SEED_MIX);
+        }
+
+        void step(GameWorld world) {
+            Array<Direction> scrolls = world.getCollectedScrolls();
+            while (scrolls.size > 0) {
+                world.useScroll(0);
+                world.addPlayerAttack(Direction.VALUES[random.nextInt(4)]);
+            }
+
+            if (ticksLeft-- <= 0) {
+                heading = random.nextInt(5) == 0 ? null : Direction.VALUES[random.nextInt(4)];
+                ticksLeft = 15 + random.nextInt(45);
+            }
+
+            world.savePreviousPositions();
+            if (heading != null) {
+                Sprite player = world.getPlayerSprite();
+                float distance = PLAYER_SPEED * GameScreen.STEP;
+                player.translate(heading.dx * distance, heading.dy * distance);
+            }
+            world.step(GameScreen.STEP);
+        }
+    }
+}